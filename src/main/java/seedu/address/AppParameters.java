@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -14,9 +15,15 @@ import seedu.address.commons.util.FileUtil;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    /** The batch script path that stands for the standard input. */
+    public static final String STANDARD_INPUT = "-";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final String NAMED_PARAMETER_PREFIX = "--";
 
     private Path configPath;
+    private String batchScriptPath;
+    private int checkpointInterval;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,12 +33,58 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the script of commands to run without a UI, {@value #STANDARD_INPUT} for the standard
+     * input, or null if the UI should be shown.
+     */
+    public String getBatchScriptPath() {
+        return batchScriptPath;
+    }
+
+    public void setBatchScriptPath(String batchScriptPath) {
+        this.batchScriptPath = batchScriptPath;
+    }
+
+    /**
+     * Returns the number of batch commands after which the flash book is saved, or 0 if it is only saved at the end
+     * of the batch.
+     */
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public void setCheckpointInterval(int checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments, taking those of the form {@code --name=value} as named parameters
+     * like JavaFX does, so that they can be parsed before (or without) launching the application.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separatorIndex > NAMED_PARAMETER_PREFIX.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    /**
+     * Parses the named command-line parameters.
+     */
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -40,6 +93,24 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String batchScriptPathParameter = namedParameters.get("batch");
+        if (batchScriptPathParameter != null && !batchScriptPathParameter.equals(STANDARD_INPUT)
+                && !FileUtil.isValidPath(batchScriptPathParameter)) {
+            logger.warning("Invalid batch script path " + batchScriptPathParameter + ". Showing the UI instead.");
+            batchScriptPathParameter = null;
+        }
+        appParameters.setBatchScriptPath(batchScriptPathParameter);
+
+        String checkpointIntervalParameter = namedParameters.get("checkpoint");
+        if (checkpointIntervalParameter != null) {
+            try {
+                appParameters.setCheckpointInterval(Math.max(Integer.parseInt(checkpointIntervalParameter), 0));
+            } catch (NumberFormatException e) {
+                logger.warning("Invalid checkpoint interval " + checkpointIntervalParameter
+                        + ". Saving only at the end of the batch.");
+            }
+        }
+
         return appParameters;
     }
 
@@ -54,11 +125,13 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getBatchScriptPath(), otherAppParameters.getBatchScriptPath())
+                && getCheckpointInterval() == otherAppParameters.getCheckpointInterval();
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchScriptPath, checkpointInterval);
     }
 }
@@ -1,10 +1,25 @@
 package seedu.address;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
@@ -13,6 +28,8 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchRunner;
+import seedu.address.logic.CommandHistory;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.FlashBook;
@@ -21,17 +38,18 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyFlashBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.flashcard.Flashcard;
 import seedu.address.model.subject.ReadOnlySubjectBook;
 import seedu.address.model.subject.SubjectBook;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryFlashBookStorage;
+import seedu.address.storage.CommandHistoryStorage;
 import seedu.address.storage.FlashBookStorage;
+import seedu.address.storage.JournaledFlashBookStorage;
 import seedu.address.storage.JsonFlashBookStorage;
-import seedu.address.storage.JsonSubjectBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
-import seedu.address.storage.SubjectBookStorage;
+import seedu.address.storage.TextCommandHistoryStorage;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -44,6 +62,9 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 6, 0, true);
 
+    private static final int STARTUP_THREAD_COUNT = 2;
+    private static final String COMMAND_HISTORY_FILE_NAME = "history.txt";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -52,30 +73,94 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    /**
+     * Writes of the config and prefs files, deferred until the data file is being read so that they overlap.
+     * The values written are copied when the writes are deferred.
+     */
+    private final List<Runnable> startupWrites = new ArrayList<>();
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing FlashBook ]===========================");
         super.init();
+        initComponents(AppParameters.parse(getParameters()), true);
+    }
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+    /**
+     * Initializes the components of the app as given by {@code appParameters}, with a UI only if {@code hasUi}.
+     */
+    private void initComponents(AppParameters appParameters, boolean hasUi) {
+        long initStartTime = System.nanoTime();
+
+        long phaseStartTime = System.nanoTime();
         config = initConfig(appParameters.getConfigPath());
+        initLogging(config);
+        logPhaseTime("config", phaseStartTime);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        phaseStartTime = System.nanoTime();
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        FlashBookStorage flashBookStorage = new JsonFlashBookStorage(userPrefs.getFlashBookFilePath());
-        SubjectBookStorage subjectBookStorage = new JsonSubjectBookStorage(userPrefs.getSubjectBookFilePath());
-        storage = new StorageManager(flashBookStorage, userPrefsStorage);
-
-        storage = new StorageManager(new JsonFlashBookStorage(userPrefs.getFlashBookFilePath()),
-                new JsonUserPrefsStorage(config.getUserPrefsFilePath()));
-
-        initLogging(config);
+        logPhaseTime("prefs", phaseStartTime);
+        FlashBookStorage flashBookStorage = initFlashBookStorage(config, userPrefs.getFlashBookFilePath());
+        // the command history is kept next to the flash book it was entered on
+        CommandHistoryStorage commandHistoryStorage = new TextCommandHistoryStorage(
+                userPrefs.getFlashBookFilePath().resolveSibling(COMMAND_HISTORY_FILE_NAME));
+        storage = new StorageManager(flashBookStorage, userPrefsStorage, commandHistoryStorage);
+
+        // The data file is read while the config and prefs files are written, if they need to be
+        ExecutorService startupExecutor = Executors.newFixedThreadPool(STARTUP_THREAD_COUNT,
+                new ThreadFactoryBuilder().setNameFormat("startup-%d").setDaemon(true).build());
+        try {
+            CompletableFuture<Model> modelInitialized = CompletableFuture.supplyAsync(() ->
+                    initModelManager(storage, userPrefs), startupExecutor);
+            CompletableFuture<CommandHistory> commandHistoryInitialized = CompletableFuture.supplyAsync(() ->
+                    initCommandHistory(storage), startupExecutor);
+            CompletableFuture<Void> startupWritesDone = CompletableFuture.runAsync(
+                    this::runStartupWrites, startupExecutor);
+
+            model = modelInitialized.join();
+            phaseStartTime = System.nanoTime();
+            logic = new LogicManager(model, commandHistoryInitialized.join());
+            ui = hasUi ? new UiManager(logic) : null;
+            logPhaseTime("logic and ui", phaseStartTime);
+            startupWritesDone.join();
+        } finally {
+            startupExecutor.shutdown();
+        }
+        logPhaseTime("init", initStartTime);
+    }
 
-        model = initModelManager(storage, userPrefs);
+    /**
+     * Logs the time taken by the startup phase named {@code phase}, which started at {@code phaseStartTime}.
+     */
+    private static void logPhaseTime(String phase, long phaseStartTime) {
+        logger.info(String.format("Startup phase %s took %d ms", phase,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - phaseStartTime)));
+    }
 
-        logic = new LogicManager(model, storage);
+    /**
+     * Runs the writes deferred by {@link #initConfig(Path)} and {@link #initPrefs(UserPrefsStorage)}.
+     */
+    private void runStartupWrites() {
+        long phaseStartTime = System.nanoTime();
+        startupWrites.forEach(Runnable::run);
+        startupWrites.clear();
+        logPhaseTime("config and prefs writes", phaseStartTime);
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Returns the storage for the flash book at {@code flashBookFilePath}. A binary storage is used if the file is
+     * named like a binary flash book file, otherwise a json storage, journaled or backed up if {@code config} says
+     * so.
+     */
+    private FlashBookStorage initFlashBookStorage(Config config, Path flashBookFilePath) {
+        if (BinaryFlashBookStorage.isBinaryFlashBookFile(flashBookFilePath)) {
+            return new BinaryFlashBookStorage(flashBookFilePath);
+        }
+        if (config.isFlashBookJournaled()) {
+            return new JournaledFlashBookStorage(flashBookFilePath);
+        }
+        return new JsonFlashBookStorage(flashBookFilePath, false, config.isFlashBookBackedUp());
     }
 
     /**
@@ -87,22 +172,16 @@ public class MainApp extends Application {
         Optional<ReadOnlyFlashBook> flashBookOptional;
         ReadOnlyFlashBook initialFlashBook;
         ReadOnlySubjectBook initialSubjectBook;
-        SubjectBook s = new SubjectBook();
-
 
         try {
+            long phaseStartTime = System.nanoTime();
             flashBookOptional = storage.readFlashBook();
+            logPhaseTime("data file", phaseStartTime);
             if (!flashBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample FlashBook");
             }
             initialFlashBook = flashBookOptional.orElseGet(SampleDataUtil::getSampleFlashBook);
-
-            for (Flashcard f : initialFlashBook.getFlashcardList()) {
-                s.addSubject(f.getSubject());
-            }
-            initialSubjectBook = s;
-            //initialSubjectBook = initialFlashBook.getFlashcardList();
-            //initialSubjectBook = new SubjectBook();
+            initialSubjectBook = SubjectBook.fromFlashcards(initialFlashBook.getFlashcardList());
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty FlashBook");
             initialFlashBook = new FlashBook();
@@ -113,7 +192,26 @@ public class MainApp extends Application {
             initialSubjectBook = new SubjectBook();
         }
 
-        return new ModelManager(initialSubjectBook, initialFlashBook, userPrefs);
+        long phaseStartTime = System.nanoTime();
+        Model initializedModel = new ModelManager(initialSubjectBook, initialFlashBook, userPrefs,
+                config.getUndoHistoryDepth(), config.getUndoHistoryFlashcardLimit());
+        logPhaseTime("model", phaseStartTime);
+        return initializedModel;
+    }
+
+    /**
+     * Returns a {@code CommandHistory} with the latest commands from {@code storage}'s command history,
+     * or an empty {@code CommandHistory} if errors occur when reading it.
+     */
+    private CommandHistory initCommandHistory(Storage storage) {
+        CommandHistory initializedCommandHistory = new CommandHistory();
+        try {
+            storage.readCommandHistory(initializedCommandHistory.getCapacity())
+                    .forEach(initializedCommandHistory::add);
+        } catch (IOException e) {
+            logger.warning("Problem while reading the command history file. Will be starting with an empty history");
+        }
+        return initializedCommandHistory;
     }
 
     private void initLogging(Config config) {
@@ -148,11 +246,15 @@ public class MainApp extends Application {
         }
 
         //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
+        Config savedConfig = new Config(initializedConfig);
+        Path savedConfigFilePath = configFilePathUsed;
+        startupWrites.add(() -> {
+            try {
+                ConfigUtil.saveConfig(savedConfig, savedConfigFilePath);
+            } catch (IOException e) {
+                logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+            }
+        });
         return initializedConfig;
     }
 
@@ -179,11 +281,14 @@ public class MainApp extends Application {
         }
 
         //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
+        UserPrefs savedPrefs = new UserPrefs(initializedPrefs);
+        startupWrites.add(() -> {
+            try {
+                storage.saveUserPrefs(savedPrefs);
+            } catch (IOException e) {
+                logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+            }
+        });
 
         return initializedPrefs;
     }
@@ -197,6 +302,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Flash Book ] =============================");
+        if (ui != null) {
+            ui.stop();
+        }
+        storage.flushFlashBook();
+        storage.flushCommandHistory();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -204,7 +314,53 @@ public class MainApp extends Application {
         }
     }
 
+    /**
+     * Runs the commands of the batch script given by {@code appParameters} without a UI, and prints the result and
+     * latency of each command to the standard output. The flash book is saved only at the checkpoints of the batch
+     * and at its end, instead of after every command.
+     *
+     * @return the exit status of the app, which is 0 only if every command succeeded.
+     */
+    private int runBatch(AppParameters appParameters) {
+        logger.info("=============================[ Running FlashBook batch ]===========================");
+        initComponents(appParameters, false);
+        storage.deferFlashBookSaves();
+
+        PrintWriter output = new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        BatchRunner batchRunner = new BatchRunner(logic, appParameters.getCheckpointInterval(),
+                storage::checkpointFlashBook);
+        try (BufferedReader script = openBatchScript(appParameters.getBatchScriptPath())) {
+            BatchRunner.Report report = batchRunner.run(script, output);
+            output.println(report);
+            return report.getFailureCount() == 0 ? 0 : 1;
+        } catch (IOException e) {
+            logger.severe("Failed to read batch script " + StringUtil.getDetails(e));
+            return 1;
+        } finally {
+            output.flush();
+            stop();
+        }
+    }
+
+    /**
+     * Opens the batch script at {@code batchScriptPath}, or the standard input.
+     */
+    private static BufferedReader openBatchScript(String batchScriptPath) throws IOException {
+        if (batchScriptPath.equals(AppParameters.STANDARD_INPUT)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(Paths.get(batchScriptPath), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Launches the app, or runs a batch script without a UI if one is given with {@code --batch=FILE}
+     * ({@code --batch=-} for the standard input).
+     */
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.getBatchScriptPath() != null) {
+            System.exit(new MainApp().runBatch(appParameters));
+        }
         launch(args);
     }
 }
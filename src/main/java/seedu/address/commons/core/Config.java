@@ -1,10 +1,14 @@
 package seedu.address.commons.core;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.model.VersionedFlashBook;
+
 /**
  * Config values used by the app
  */
@@ -15,6 +19,27 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isFlashBookJournaled = false;
+    private boolean isFlashBookBackedUp = true;
+    private int undoHistoryDepth = VersionedFlashBook.DEFAULT_MAX_HISTORY_DEPTH;
+    private int undoHistoryFlashcardLimit = VersionedFlashBook.DEFAULT_MAX_RETAINED_FLASHCARDS;
+
+    /**
+     * Creates a {@code Config} with default values.
+     */
+    public Config() {}
+
+    /**
+     * Creates a {@code Config} with the values in {@code config}.
+     */
+    public Config(Config config) {
+        logLevel = config.logLevel;
+        userPrefsFilePath = config.userPrefsFilePath;
+        isFlashBookJournaled = config.isFlashBookJournaled;
+        isFlashBookBackedUp = config.isFlashBookBackedUp;
+        undoHistoryDepth = config.undoHistoryDepth;
+        undoHistoryFlashcardLimit = config.undoHistoryFlashcardLimit;
+    }
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +57,54 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the flash book is saved as a snapshot plus a journal of changes,
+     * instead of as a single json file that is rewritten on every save.
+     */
+    public boolean isFlashBookJournaled() {
+        return isFlashBookJournaled;
+    }
+
+    public void setFlashBookJournaled(boolean isFlashBookJournaled) {
+        this.isFlashBookJournaled = isFlashBookJournaled;
+    }
+
+    /**
+     * Returns true if the previously saved json flash book is kept as a backup each time the flash book is saved.
+     */
+    public boolean isFlashBookBackedUp() {
+        return isFlashBookBackedUp;
+    }
+
+    public void setFlashBookBackedUp(boolean isFlashBookBackedUp) {
+        this.isFlashBookBackedUp = isFlashBookBackedUp;
+    }
+
+    /**
+     * Returns the maximum number of changes to the flash book that can be undone.
+     */
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        checkArgument(undoHistoryDepth >= 0, "Undo history depth cannot be negative");
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    /**
+     * Returns the maximum number of flashcards that the undo history may keep, past which its oldest changes are
+     * dropped. A flashcard kept by several changes is counted once.
+     */
+    public int getUndoHistoryFlashcardLimit() {
+        return undoHistoryFlashcardLimit;
+    }
+
+    public void setUndoHistoryFlashcardLimit(int undoHistoryFlashcardLimit) {
+        checkArgument(undoHistoryFlashcardLimit >= 0, "Undo history flashcard limit cannot be negative");
+        this.undoHistoryFlashcardLimit = undoHistoryFlashcardLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +117,17 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && isFlashBookJournaled == o.isFlashBookJournaled
+                && isFlashBookBackedUp == o.isFlashBookBackedUp
+                && undoHistoryDepth == o.undoHistoryDepth
+                && undoHistoryFlashcardLimit == o.undoHistoryFlashcardLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, isFlashBookJournaled, isFlashBookBackedUp, undoHistoryDepth,
+                undoHistoryFlashcardLimit);
     }
 
     @Override
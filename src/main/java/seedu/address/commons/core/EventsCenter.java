@@ -1,21 +1,40 @@
 package seedu.address.commons.core;
 
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
+import com.google.common.eventbus.AsyncEventBus;
 import com.google.common.eventbus.EventBus;
 
+import javafx.application.Platform;
+import seedu.address.commons.core.HandledOn.Dispatcher;
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Manages the event dispatching of the app.
+ *
+ * Each handler is called on the thread given by the {@link HandledOn} annotation of its class, or on the posting
+ * thread if there is none. Whichever the thread, a handler receives the events posted from any one thread in the
+ * order they were posted, and an event posted by a handler is received after the event being handled.
  */
 public class EventsCenter {
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
     private static EventsCenter instance;
-    private final EventBus eventBus;
+
+    private final EventBus callerEventBus;
+    private final EventBus fxApplicationThreadEventBus;
 
     private EventsCenter() {
-        eventBus = new EventBus();
+        this(Platform::runLater);
+    }
+
+    /**
+     * Creates an {@code EventsCenter} that calls JavaFX application thread handlers on
+     * {@code fxApplicationThreadExecutor}, which must run its tasks one at a time, in the order they were submitted.
+     */
+    EventsCenter(Executor fxApplicationThreadExecutor) {
+        callerEventBus = new EventBus();
+        fxApplicationThreadEventBus = new AsyncEventBus(fxApplicationThreadExecutor);
     }
 
     public static EventsCenter getInstance() {
@@ -29,16 +48,29 @@ public class EventsCenter {
         instance = null;
     }
 
+    /**
+     * Registers the event handlers of {@code handler}, to be called on the thread given by its {@link HandledOn}
+     * annotation.
+     */
     public void registerHandler(Object handler) {
-        eventBus.register(handler);
+        HandledOn handledOn = handler.getClass().getAnnotation(HandledOn.class);
+        Dispatcher dispatcher = handledOn == null ? Dispatcher.CALLER : handledOn.value();
+        if (dispatcher == Dispatcher.FX_APPLICATION_THREAD) {
+            fxApplicationThreadEventBus.register(handler);
+        } else {
+            callerEventBus.register(handler);
+        }
     }
 
     /**
      * Posts an event to the event bus.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        logger.info(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        // queued for the asynchronous handlers first, so that they receive it before the events posted by the
+        // handlers called on this thread
+        fxApplicationThreadEventBus.post(event);
+        callerEventBus.post(event);
         return this;
     }
 
@@ -0,0 +1,32 @@
+package seedu.address.commons.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the thread that the event handlers of a class registered with the {@link EventsCenter} are called on.
+ * Handlers of classes that are not marked are called on the thread that posts the event.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface HandledOn {
+
+    /**
+     * Returns the thread that the event handlers are called on.
+     */
+    Dispatcher value();
+
+    /**
+     * The threads that events can be handled on.
+     */
+    enum Dispatcher {
+        /** The thread that posts the event, before {@code post} returns. */
+        CALLER,
+        /** The JavaFX application thread, for handlers that update the UI. */
+        FX_APPLICATION_THREAD
+    }
+}
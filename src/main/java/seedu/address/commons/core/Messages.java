@@ -10,5 +10,7 @@ public class Messages {
     public static final String MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX = "The flashcard index provided is invalid!";
     public static final String MESSAGE_INVALID_SUBJECT = "The subject provided is not found!";
     public static final String MESSAGE_FLASHCARDS_LISTED_OVERVIEW = "%1$d flashcard listed!";
+    public static final String MESSAGE_CHANGE_NOT_UNDOABLE = "This change is too large to be kept in the undo "
+            + "history, and cannot be undone.";
 
 }
@@ -7,13 +7,16 @@ import seedu.address.model.ReadOnlyFlashBook;
 public class FlashBookChangedEvent extends BaseEvent {
 
     public final ReadOnlyFlashBook data;
+    /** The number of flashcards in {@code data} when it changed, which handlers on other threads can rely on. */
+    public final int flashcardCount;
 
     public FlashBookChangedEvent(ReadOnlyFlashBook data) {
         this.data = data;
+        this.flashcardCount = data.getFlashcardList().size();
     }
 
     @Override
     public String toString() {
-        return "number of flashcards " + data.getFlashcardList().size();
+        return "number of flashcards " + flashcardCount;
     }
 }
@@ -0,0 +1,25 @@
+package seedu.address.commons.events.ui;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates that more of a file of flashcards has been read by an import.
+ */
+public class ImportProgressEvent extends BaseEvent {
+
+    public final Path filePath;
+    public final int linesRead;
+
+    public ImportProgressEvent(Path filePath, int linesRead) {
+        this.filePath = filePath;
+        this.linesRead = linesRead;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + linesRead + " lines of " + filePath;
+    }
+
+}
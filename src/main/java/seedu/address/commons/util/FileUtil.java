@@ -1,10 +1,24 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.AclFileAttributeView;
+import java.nio.file.attribute.DosFileAttributeView;
+import java.nio.file.attribute.DosFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Writes and reads files
@@ -12,6 +26,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +90,174 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, as in {@link #writeAtomically(Path, ContentWriter)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Writes given string to a file, as in {@link #writeToFile(Path, String)}, unless the file already contains
+     * exactly that string.
+     * @return true if the file was written.
+     */
+    public static boolean writeToFileIfChanged(Path file, String content) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        if (isFileExists(file) && Files.size(file) == bytes.length
+                && Arrays.equals(Files.readAllBytes(file), bytes)) {
+            return false;
+        }
+        writeAtomically(file, out -> out.write(bytes));
+        return true;
+    }
+
+    /**
+     * Replaces the contents of {@code file} with the contents written by {@code writer}.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * The contents are written to a temporary file in the same directory and forced to the disk before the
+     * temporary file is renamed to {@code file} in a single step. A crash while writing leaves {@code file}
+     * with either its previous or its new contents, never a mix of both.
+     *
+     * The permissions, ACL and DOS attributes of an existing {@code file} are copied to the temporary file before
+     * the rename, so that they are kept. A new file gets the default permissions of a new file in the directory.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer) throws IOException {
+        writeAtomically(file, writer, null);
+    }
+
+    /**
+     * Similar to {@link #writeAtomically(Path, ContentWriter)}, but also keeps the previous contents of
+     * {@code file}, if any, in {@code backupFile}. The previous backup is replaced.
+     *
+     * @param backupFile the file to keep the previous contents in, or null if they need not be kept.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer, Path backupFile) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tempFile = createTempFile(directory, file.getFileName().toString());
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new UnclosableOutputStream(Channels.newOutputStream(channel));
+                writer.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            if (isFileExists(file)) {
+                copyAttributes(file, tempFile);
+            }
+            if (backupFile != null && isFileExists(file)) {
+                backUp(file, backupFile);
+            }
+            moveAtomically(tempFile, file);
+            forceDirectory(directory);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Creates an empty temporary file for {@code fileName} in {@code directory}.
+     * Unlike {@link Files#createTempFile}, which restricts the file to its owner, the file gets the default
+     * permissions of a new file, as the file it replaces would have had.
+     */
+    private static Path createTempFile(Path directory, String fileName) throws IOException {
+        while (true) {
+            Path tempFile = directory.resolve(fileName + "."
+                    + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + TEMP_FILE_SUFFIX);
+            try {
+                return Files.createFile(tempFile);
+            } catch (FileAlreadyExistsException e) {
+                // try another name
+            }
+        }
+    }
+
+    /**
+     * Copies the permissions, ACL and DOS attributes of {@code source}, where the file system has them, to
+     * {@code target}. The owner is not copied, as only privileged users may change it.
+     */
+    private static void copyAttributes(Path source, Path target) throws IOException {
+        PosixFileAttributeView posixView = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        if (posixView != null) {
+            Files.setPosixFilePermissions(target, posixView.readAttributes().permissions());
+        }
+        AclFileAttributeView aclView = Files.getFileAttributeView(source, AclFileAttributeView.class);
+        if (aclView != null) {
+            Files.getFileAttributeView(target, AclFileAttributeView.class).setAcl(aclView.getAcl());
+        }
+        DosFileAttributeView dosView = Files.getFileAttributeView(source, DosFileAttributeView.class);
+        if (dosView != null) {
+            DosFileAttributes dosAttributes = dosView.readAttributes();
+            DosFileAttributeView targetDosView = Files.getFileAttributeView(target, DosFileAttributeView.class);
+            targetDosView.setHidden(dosAttributes.isHidden());
+            targetDosView.setSystem(dosAttributes.isSystem());
+            targetDosView.setArchive(dosAttributes.isArchive());
+            // a read-only file is still replaced, as it was before the contents were written atomically
+        }
+    }
+
+    /**
+     * Makes {@code backupFile} hold the current contents of {@code file}.
+     * A hard link is used where the file system supports it, so that the contents are not copied.
+     */
+    private static void backUp(Path file, Path backupFile) throws IOException {
+        Files.deleteIfExists(backupFile);
+        try {
+            Files.createLink(backupFile, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Renames {@code source} to {@code target}, replacing {@code target}, atomically if the file system allows it.
+     */
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces a rename in {@code directory} to the disk. Not all platforms support this, in which case the rename
+     * is left to the operating system to persist.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // not supported on this platform
+        }
+    }
+
+    /**
+     * A buffered stream that is only flushed when closed, so that writers that close the stream given to them
+     * do not close the file before it has been forced to the disk.
+     */
+    private static class UnclosableOutputStream extends BufferedOutputStream {
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the contents to {@code out}.
+         */
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
@@ -0,0 +1,98 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Matches words against a fixed set of keywords, ignoring case, like {@link StringUtil#containsWordIgnoreCase}.
+ *
+ * The keywords are validated and case-folded once when the matcher is built, so that matching words
+ * that have already been split and case-folded (see {@link #splitWords(String)}) allocates nothing.
+ */
+public class WordMatcher {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Set<String> foldedKeywords;
+    private final String[] foldedKeywordArray;
+
+    /**
+     * @param keywords cannot be null, every keyword cannot be empty and must be a single word
+     */
+    public WordMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        foldedKeywords = new HashSet<>();
+        for (String keyword : keywords) {
+            String preppedKeyword = keyword.trim();
+            checkArgument(!preppedKeyword.isEmpty(), "Word parameter cannot be empty");
+            checkArgument(!WHITESPACE.matcher(preppedKeyword).find(), "Word parameter should be a single word");
+            foldedKeywords.add(fold(preppedKeyword));
+        }
+        foldedKeywordArray = foldedKeywords.toArray(new String[0]);
+    }
+
+    /**
+     * Returns {@code word} in the case used for comparisons.
+     */
+    public static String fold(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the case-folded words of {@code sentence}, split on whitespace.
+     */
+    public static List<String> splitWords(String sentence) {
+        requireNonNull(sentence);
+        String trimmedSentence = sentence.trim();
+        if (trimmedSentence.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(Arrays.asList(WHITESPACE.split(fold(trimmedSentence))));
+    }
+
+    /**
+     * Returns true if {@code word} matches any of the keywords, ignoring case.
+     * {@code word} must be a single word.
+     */
+    public boolean matches(String word) {
+        for (String keyword : foldedKeywordArray) {
+            if (keyword.equalsIgnoreCase(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if any of {@code foldedWords} matches any of the keywords.
+     * {@code foldedWords} must already be case-folded, e.g. by {@link #splitWords(String)}.
+     */
+    public boolean matchesAny(List<String> foldedWords) {
+        for (int i = 0; i < foldedWords.size(); i++) {
+            if (foldedKeywords.contains(foldedWords.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof WordMatcher // instanceof handles nulls
+                && foldedKeywords.equals(((WordMatcher) other).foldedKeywords)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return foldedKeywords.hashCode();
+    }
+}
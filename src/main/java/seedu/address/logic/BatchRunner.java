@@ -0,0 +1,183 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs a script of commands through a {@code Logic} one after another, without a UI, and reports the time taken
+ * by each command and the throughput of the whole script.
+ * Blank lines and lines starting with {@value #COMMENT_MARKER} are skipped.
+ */
+public class BatchRunner {
+
+    public static final String COMMENT_MARKER = "#";
+    public static final String RESULT_SUCCESS = "OK";
+    public static final String RESULT_FAILURE = "ERROR";
+    public static final String MESSAGE_COMMAND_REPORT = "line %1$d: %2$s %3$.3f ms: %4$s -> %5$s";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Logic logic;
+    private final int checkpointInterval;
+    private final Runnable checkpoint;
+
+    /**
+     * Creates a runner of commands on {@code logic}, which runs {@code checkpoint} after every
+     * {@code checkpointInterval} commands and at the end of the script. {@code checkpointInterval} may be 0 to run it
+     * only at the end.
+     */
+    public BatchRunner(Logic logic, int checkpointInterval, Runnable checkpoint) {
+        requireNonNull(logic);
+        requireNonNull(checkpoint);
+        assert checkpointInterval >= 0;
+        this.logic = logic;
+        this.checkpointInterval = checkpointInterval;
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Runs every command of {@code script}, and writes the result and latency of each to {@code output}.
+     * A command that fails, even unexpectedly, does not stop the script. A command that asks the app to exit stops
+     * the script after it.
+     *
+     * @throws IOException if {@code script} cannot be read.
+     */
+    public Report run(BufferedReader script, PrintWriter output) throws IOException {
+        long[] latencyNanos = new long[16];
+        int commandCount = 0;
+        int failureCount = 0;
+        long startTime = System.nanoTime();
+
+        try {
+            int lineNumber = 0;
+            String line;
+            boolean isExitRequested = false;
+            while (!isExitRequested && (line = script.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                    continue;
+                }
+
+                long commandStartTime = System.nanoTime();
+                String result;
+                String feedback;
+                try {
+                    CommandResult commandResult = logic.execute(commandText);
+                    result = RESULT_SUCCESS;
+                    feedback = commandResult.getFeedbackToUser();
+                    isExitRequested = commandResult.isExit();
+                } catch (CommandException | ParseException e) {
+                    result = RESULT_FAILURE;
+                    feedback = e.getMessage();
+                    failureCount++;
+                } catch (RuntimeException e) {
+                    logger.severe("Command " + commandText + " failed unexpectedly " + StringUtil.getDetails(e));
+                    result = RESULT_FAILURE;
+                    feedback = e.toString();
+                    failureCount++;
+                }
+                long latency = System.nanoTime() - commandStartTime;
+
+                if (commandCount == latencyNanos.length) {
+                    latencyNanos = Arrays.copyOf(latencyNanos, commandCount * 2);
+                }
+                latencyNanos[commandCount++] = latency;
+                output.println(String.format(MESSAGE_COMMAND_REPORT, lineNumber, result, toMillis(latency),
+                        commandText, firstLine(feedback)));
+
+                if (checkpointInterval > 0 && commandCount % checkpointInterval == 0) {
+                    checkpoint.run();
+                }
+            }
+        } finally {
+            checkpoint.run();
+        }
+
+        return new Report(Arrays.copyOf(latencyNanos, commandCount), failureCount, System.nanoTime() - startTime);
+    }
+
+    private static String firstLine(String text) {
+        int lineEnd = text.indexOf('\n');
+        return lineEnd == -1 ? text : text.substring(0, lineEnd);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * The latency of the commands of a script, and its throughput.
+     */
+    public static class Report {
+
+        public static final String MESSAGE_SUMMARY = "%1$d commands (%2$d failed) in %3$.1f ms, %4$.1f commands/s; "
+                + "latency p50 %5$.3f ms, p90 %6$.3f ms, p99 %7$.3f ms, max %8$.3f ms";
+
+        private final long[] sortedLatencyNanos;
+        private final int failureCount;
+        private final long totalNanos;
+
+        Report(long[] latencyNanos, int failureCount, long totalNanos) {
+            this.sortedLatencyNanos = latencyNanos.clone();
+            Arrays.sort(sortedLatencyNanos);
+            this.failureCount = failureCount;
+            this.totalNanos = totalNanos;
+        }
+
+        public int getCommandCount() {
+            return sortedLatencyNanos.length;
+        }
+
+        public int getFailureCount() {
+            return failureCount;
+        }
+
+        /**
+         * Returns the time taken by the whole script, including its checkpoints, in nanoseconds.
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Returns the number of commands run per second.
+         */
+        public double getThroughput() {
+            return totalNanos == 0 ? 0 : getCommandCount() / (totalNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+
+        /**
+         * Returns the latency in nanoseconds that {@code percentile} percent of the commands took at most,
+         * or 0 if no command was run.
+         */
+        public long getLatencyPercentileNanos(double percentile) {
+            assert percentile >= 0 && percentile <= 100;
+            if (sortedLatencyNanos.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * sortedLatencyNanos.length);
+            return sortedLatencyNanos[Math.max(rank - 1, 0)];
+        }
+
+        @Override
+        public String toString() {
+            return String.format(MESSAGE_SUMMARY, getCommandCount(), failureCount, toMillis(totalNanos),
+                    getThroughput(), toMillis(getLatencyPercentileNanos(50)), toMillis(getLatencyPercentileNanos(90)),
+                    toMillis(getLatencyPercentileNanos(99)), toMillis(getLatencyPercentileNanos(100)));
+        }
+    }
+
+}
@@ -0,0 +1,260 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Executes commands on a {@code Logic} on a worker thread of its own, one at a time and in the order they were
+ * submitted, so that the thread submitting them is never blocked by a command.
+ *
+ * The worker thread is the only thread that changes the model. The results of the commands, and the changes they
+ * make to the lists and properties of the model, are published on a result thread (the JavaFX application thread
+ * in the app) through mirrors of those lists and properties, in the order they happened.
+ */
+public class CommandExecutionService {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandExecutionService.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final Logic logic;
+    private final Executor resultExecutor;
+    private final ThreadPoolExecutor worker;
+    /** The number of commands submitted that have yet to complete, as seen from the result thread. */
+    private final ReadOnlyIntegerWrapper pendingCommandCount = new ReadOnlyIntegerWrapper(0);
+    /** The history of commands as of the latest command completed, as seen from the result thread. */
+    private final ReadOnlyObjectWrapper<List<String>> history = new ReadOnlyObjectWrapper<>(Collections.emptyList());
+
+    /**
+     * Creates a service that executes commands on {@code logic}, and publishes their results and changes on
+     * {@code resultExecutor}, which must run its tasks one at a time, in the order they were submitted.
+     */
+    public CommandExecutionService(Logic logic, Executor resultExecutor) {
+        requireNonNull(logic);
+        requireNonNull(resultExecutor);
+        this.logic = logic;
+        this.resultExecutor = resultExecutor;
+        worker = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("command-executor").setDaemon(true).build());
+        worker.execute(this::publishHistory);
+    }
+
+    /**
+     * Queues {@code commandText} to be executed after the commands submitted before it.
+     * The returned future is completed on the result thread with the result of the command, or exceptionally
+     * with the {@code CommandException} or {@code ParseException} it failed with, or with a
+     * {@code CancellationException} if it was cancelled before it started.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        QueuedCommand command = new QueuedCommand(commandText);
+        resultExecutor.execute(() -> pendingCommandCount.set(pendingCommandCount.get() + 1));
+        worker.execute(command);
+        return command.result;
+    }
+
+    /**
+     * Queues {@code modelUpdate} to be run on the worker thread after the commands submitted before it.
+     * Unlike a command, it is not cancelled by {@link #cancelQueuedCommands()}.
+     */
+    public void submitUpdate(Runnable modelUpdate) {
+        requireNonNull(modelUpdate);
+        worker.execute(modelUpdate);
+    }
+
+    /**
+     * Cancels the commands that have been submitted but not yet started. The command being executed, if any,
+     * runs to completion, so that the model is never left half changed.
+     *
+     * @return the number of commands cancelled.
+     */
+    public int cancelQueuedCommands() {
+        List<Runnable> queuedTasks = new ArrayList<>();
+        worker.getQueue().drainTo(queuedTasks);
+
+        int cancelledCount = 0;
+        for (Runnable task : queuedTasks) {
+            if (task instanceof QueuedCommand) {
+                QueuedCommand command = (QueuedCommand) task;
+                command.complete(() -> command.result.completeExceptionally(new CancellationException()));
+                cancelledCount++;
+            } else {
+                worker.execute(task);
+            }
+        }
+        return cancelledCount;
+    }
+
+    /**
+     * Returns the number of commands that have been submitted but have yet to complete. It changes on the result
+     * thread only.
+     */
+    public ReadOnlyIntegerProperty pendingCommandCountProperty() {
+        return pendingCommandCount.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the history of commands, which is replaced on the result thread just
+     * before the result of each command is delivered.
+     */
+    public ReadOnlyObjectProperty<List<String>> historyProperty() {
+        return history.getReadOnlyProperty();
+    }
+
+    /**
+     * Copies the history of commands on the worker thread, and publishes the copy on the result thread.
+     * The history is bounded by the capacity of the {@code CommandHistory}, so the copy is too.
+     */
+    private void publishHistory() {
+        List<String> snapshot = Collections.unmodifiableList(new ArrayList<>(logic.getHistory()));
+        resultExecutor.execute(() -> history.set(snapshot));
+    }
+
+    /**
+     * Returns an unmodifiable list that follows the elements of {@code source}, changed on the result thread only.
+     * {@code source} must only be changed on the worker thread.
+     */
+    public <T> ObservableList<T> mirror(ObservableList<T> source) {
+        requireNonNull(source);
+        ObservableList<T> mirror = FXCollections.observableArrayList();
+        // copied and listened to on the worker thread, so that no change is missed or applied twice
+        worker.execute(() -> {
+            List<T> initialElements = new ArrayList<>(source);
+            source.addListener((ListChangeListener<T>) change -> publishChange(change, mirror));
+            resultExecutor.execute(() -> mirror.setAll(initialElements));
+        });
+        return FXCollections.unmodifiableObservableList(mirror);
+    }
+
+    /**
+     * Returns a property that follows the value of {@code source}, changed on the result thread only.
+     * {@code source} must only be changed on the worker thread.
+     */
+    public <T> ReadOnlyObjectProperty<T> mirror(ObservableValue<T> source) {
+        requireNonNull(source);
+        ReadOnlyObjectWrapper<T> mirror = new ReadOnlyObjectWrapper<>();
+        worker.execute(() -> {
+            T initialValue = source.getValue();
+            source.addListener((observable, oldValue, newValue) -> resultExecutor.execute(() -> mirror.set(newValue)));
+            resultExecutor.execute(() -> mirror.set(initialValue));
+        });
+        return mirror.getReadOnlyProperty();
+    }
+
+    /**
+     * Copies the elements changed by {@code change} on the worker thread, and applies the change to {@code mirror}
+     * on the result thread.
+     */
+    private <T> void publishChange(ListChangeListener.Change<? extends T> change, ObservableList<T> mirror) {
+        List<ReplacedRange<T>> replacedRanges = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                replacedRanges.add(new ReplacedRange<>(change.getFrom(), change.getTo() - change.getFrom(),
+                        new ArrayList<>(change.getList().subList(change.getFrom(), change.getTo()))));
+            } else {
+                replacedRanges.add(new ReplacedRange<>(change.getFrom(), change.getRemovedSize(),
+                        new ArrayList<>(change.getAddedSubList())));
+            }
+        }
+        resultExecutor.execute(() -> replacedRanges.forEach(range -> range.applyTo(mirror)));
+    }
+
+    /**
+     * Stops executing commands once the command being executed, if any, completes. The commands queued after it
+     * are cancelled.
+     */
+    public void shutdown() {
+        cancelQueuedCommands();
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Command still running after waiting " + SHUTDOWN_TIMEOUT_SECONDS + " seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A command waiting to be executed on the worker thread.
+     */
+    private class QueuedCommand implements Runnable {
+        private final String commandText;
+        private final CompletableFuture<CommandResult> result = new CompletableFuture<>();
+
+        QueuedCommand(String commandText) {
+            this.commandText = commandText;
+        }
+
+        @Override
+        public void run() {
+            Runnable completion;
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                completion = () -> result.complete(commandResult);
+            } catch (CommandException | ParseException e) {
+                completion = () -> result.completeExceptionally(e);
+            } catch (RuntimeException e) {
+                logger.severe("Command " + commandText + " failed unexpectedly " + StringUtil.getDetails(e));
+                completion = () -> result.completeExceptionally(e);
+            }
+            publishHistory();
+            complete(completion);
+        }
+
+        /**
+         * Completes the command on the result thread with {@code completion}.
+         */
+        void complete(Runnable completion) {
+            resultExecutor.execute(() -> {
+                pendingCommandCount.set(pendingCommandCount.get() - 1);
+                completion.run();
+            });
+        }
+    }
+
+    /**
+     * The elements of a range of a list that were replaced by other elements.
+     */
+    private static class ReplacedRange<T> {
+        private final int from;
+        private final int removedSize;
+        private final List<T> addedElements;
+
+        ReplacedRange(int from, int removedSize, List<T> addedElements) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.addedElements = addedElements;
+        }
+
+        void applyTo(List<T> list) {
+            list.subList(from, from + removedSize).clear();
+            list.addAll(from, addedElements);
+        }
+    }
+}
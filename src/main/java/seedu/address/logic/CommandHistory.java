@@ -2,38 +2,72 @@ package seedu.address.logic;
 
 import static java.util.Objects.requireNonNull;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * Stores the history of commands executed.
+ *
+ * Only the latest {@code capacity} commands are kept, in a ring buffer, so that the history takes constant memory
+ * however long the app runs. A command that repeats the one before it is not stored again.
+ * The history can be read from another thread while commands are added to it.
  */
 public class CommandHistory {
-    private final ObservableList<String> userInputHistory = FXCollections.observableArrayList();
-    private final ObservableList<String> unmodifiableUserInputHistory =
-            FXCollections.unmodifiableObservableList(userInputHistory);
+    public static final int DEFAULT_CAPACITY = 1000;
 
-    public CommandHistory() {}
+    private final String[] userInputHistory;
+    private final List<String> unmodifiableUserInputHistory = new HistoryView();
+    /** The index in {@code userInputHistory} of the earliest input kept. */
+    private int start;
+    private int size;
+
+    public CommandHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CommandHistory(int capacity) {
+        assert capacity > 0;
+        userInputHistory = new String[capacity];
+    }
 
     public CommandHistory(CommandHistory commandHistory) {
-        userInputHistory.addAll(commandHistory.userInputHistory);
+        this(commandHistory.userInputHistory.length);
+        commandHistory.unmodifiableUserInputHistory.forEach(this::add);
     }
 
     /**
-     * Appends {@code userInput} to the list of user input entered.
+     * Appends {@code userInput} to the list of user input entered, dropping the earliest input if the history is
+     * full, unless {@code userInput} is the same as the latest input.
+     *
+     * @return true if {@code userInput} was appended.
      */
-    public void add(String userInput) {
+    public synchronized boolean add(String userInput) {
         requireNonNull(userInput);
-        userInputHistory.add(userInput);
+        if (size > 0 && userInput.equals(userInputHistory[(start + size - 1) % userInputHistory.length])) {
+            return false;
+        }
+
+        if (size < userInputHistory.length) {
+            userInputHistory[(start + size++) % userInputHistory.length] = userInput;
+        } else {
+            userInputHistory[start] = userInput;
+            start = (start + 1) % userInputHistory.length;
+        }
+        return true;
     }
 
     /**
-     * Returns an unmodifiable view of {@code userInputHistory}.
+     * Returns an unmodifiable view of {@code userInputHistory}, from the earliest input to the latest.
      */
-    public ObservableList<String> getHistory() {
+    public List<String> getHistory() {
         return unmodifiableUserInputHistory;
     }
 
+    public int getCapacity() {
+        return userInputHistory.length;
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -48,11 +82,33 @@ public class CommandHistory {
 
         // state check
         CommandHistory other = (CommandHistory) obj;
-        return userInputHistory.equals(other.userInputHistory);
+        return unmodifiableUserInputHistory.equals(other.unmodifiableUserInputHistory);
     }
 
     @Override
     public int hashCode() {
-        return userInputHistory.hashCode();
+        return unmodifiableUserInputHistory.hashCode();
+    }
+
+    /**
+     * A view of the inputs in the ring buffer, in the order they were entered.
+     */
+    private class HistoryView extends AbstractList<String> implements RandomAccess {
+        @Override
+        public String get(int index) {
+            synchronized (CommandHistory.this) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+                }
+                return userInputHistory[(start + index) % userInputHistory.length];
+            }
+        }
+
+        @Override
+        public int size() {
+            synchronized (CommandHistory.this) {
+                return size;
+            }
+        }
     }
 }
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
@@ -66,14 +67,15 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of flashcards */
     ObservableList<Flashcard> getFilteredFlashcardList();
 
-    /** Returns an unmodifiable view of the filtered list of flashcards */
+    /** Returns an unmodifiable view of the flashcards of the selected subject in the filtered flashcard list */
     ObservableList<Flashcard> getUpdatedFlashcardList();
 
     /**
      * Returns an unmodifiable view of the list of commands entered by the user.
-     * The list is ordered from the least recent command to the most recent command.
+     * The list is ordered from the least recent command to the most recent command, and holds only as many
+     * commands as the {@code CommandHistory} keeps.
      */
-    ObservableList<String> getHistory();
+    List<String> getHistory();
 
     /**
      * Returns the user prefs' flash book file path.
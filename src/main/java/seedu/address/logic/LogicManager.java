@@ -1,13 +1,15 @@
 package seedu.address.logic;
 
-import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.logic.CommandHistoryChangedEvent;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -18,50 +20,49 @@ import seedu.address.model.ReadOnlyFlashBook;
 import seedu.address.model.flashcard.Flashcard;
 import seedu.address.model.subject.ReadOnlySubjectBook;
 import seedu.address.model.tag.SubjectTag;
-import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * Commands and other changes to the model are made under the lock of the {@code LogicManager}, so that only one
+ * thread changes the model at a time, whichever threads they come from.
  */
 public class LogicManager implements Logic {
-    public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final CommandHistory history;
     private final FlashBookParser flashBookParser;
-    private boolean flashBookModified;
 
-    public LogicManager(Model model, Storage storage) {
+    /**
+     * Creates a {@code LogicManager} that executes commands on {@code model}.
+     * Changes to the flash book are saved by the storage component, which listens for {@code FlashBookChangedEvent}.
+     */
+    public LogicManager(Model model) {
+        this(model, new CommandHistory());
+    }
+
+    /**
+     * Creates a {@code LogicManager} that executes commands on {@code model}, and adds them to {@code history}.
+     * Commands added to the history are saved by the storage component, which listens for
+     * {@code CommandHistoryChangedEvent}.
+     */
+    public LogicManager(Model model, CommandHistory history) {
         this.model = model;
-        this.storage = storage;
-        history = new CommandHistory();
+        this.history = history;
         flashBookParser = new FlashBookParser();
-
-        // Set flashBookModified to true whenever the models' flash book is modified.
-        model.getFlashBook().addListener(observable -> flashBookModified = true);
     }
 
     @Override
-    public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
-        flashBookModified = false;
+    public synchronized CommandResult execute(String commandText) throws CommandException, ParseException {
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         try {
             Command command = flashBookParser.parseCommand(commandText);
             commandResult = command.execute(model, history);
         } finally {
-            history.add(commandText);
-        }
-
-        if (flashBookModified) {
-            logger.info("Flash book modified, saving to file.");
-            try {
-                storage.saveFlashBook(model.getFlashBook());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            if (history.add(commandText)) {
+                EventsCenter.getInstance().post(new CommandHistoryChangedEvent(commandText));
             }
         }
 
@@ -84,7 +85,7 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public void setSelectedSubject(SubjectTag subjectBook) {
+    public synchronized void setSelectedSubject(SubjectTag subjectBook) {
         model.setSelectedSubject(subjectBook);
     }
 
@@ -107,7 +108,7 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ObservableList<String> getHistory() {
+    public List<String> getHistory() {
         return history.getHistory();
     }
 
@@ -122,7 +123,7 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public void setGuiSettings(GuiSettings guiSettings) {
+    public synchronized void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
 
@@ -132,7 +133,7 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public void setSelectedFlashcard(Flashcard flashcard) {
+    public synchronized void setSelectedFlashcard(Flashcard flashcard) {
         model.setSelectedFlashcard(flashcard);
     }
 }
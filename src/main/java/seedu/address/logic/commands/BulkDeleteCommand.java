@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.flashcard.Flashcard;
+
+/**
+ * Deletes several flashcards identified using their displayed indexes from the flash book, as a single change
+ * that is undone in one step.
+ */
+public class BulkDeleteCommand extends Command {
+
+    public static final String COMMAND_WORD = "bulkDelete";
+    public static final String COMMAND_ALIAS = "bd";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Deletes the flashcards identified by the index numbers used in the displayed flashcard list.\n"
+            + "Parameters: INDEX [MORE_INDEXES]... (must be positive integers)\n"
+            + "Example: " + COMMAND_WORD + " 1 3 4";
+
+    public static final String MESSAGE_DELETE_FLASHCARDS_SUCCESS = "Deleted %1$d flashcards";
+
+    private final List<Index> targetIndexes;
+
+    /**
+     * @param targetIndexes of the flashcards in the displayed flashcard list to delete
+     */
+    public BulkDeleteCommand(List<Index> targetIndexes) {
+        requireNonNull(targetIndexes);
+        this.targetIndexes = new ArrayList<>(targetIndexes);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        List<Flashcard> flashcardsToDelete = getDisplayedFlashcards(model.getUpdatedFlashcardList(), targetIndexes);
+
+        model.beginBatch();
+        try {
+            flashcardsToDelete.forEach(model::deleteFlashcard);
+        } catch (RuntimeException e) {
+            model.abortBatch();
+            throw e;
+        }
+        model.commitBatch();
+        model.commitFlashBook();
+        model.updateFilteredFlashcardList(Model.PREDICATE_SHOW_ALL_FLASHCARDS);
+        return new CommandResult(String.format(MESSAGE_DELETE_FLASHCARDS_SUCCESS, flashcardsToDelete.size()));
+    }
+
+    /**
+     * Returns the flashcards at {@code indexes} of {@code displayedFlashcards}.
+     *
+     * @throws CommandException if any of the indexes is out of bounds.
+     */
+    static List<Flashcard> getDisplayedFlashcards(List<Flashcard> displayedFlashcards, List<Index> indexes)
+            throws CommandException {
+        List<Flashcard> flashcards = new ArrayList<>();
+        for (Index index : indexes) {
+            if (index.getZeroBased() >= displayedFlashcards.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX);
+            }
+            flashcards.add(displayedFlashcards.get(index.getZeroBased()));
+        }
+        return flashcards;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BulkDeleteCommand // instanceof handles nulls
+                && targetIndexes.equals(((BulkDeleteCommand) other).targetIndexes)); // state check
+    }
+
+}
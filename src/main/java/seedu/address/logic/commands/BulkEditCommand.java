@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DIFFICULTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.EditCommand.EditFlashcardDescriptor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.flashcard.Flashcard;
+
+/**
+ * Edits the difficulty or subject of several flashcards identified using their displayed indexes, as a single
+ * change that is undone in one step.
+ * The topic and content cannot be edited in bulk, as they identify a flashcard.
+ */
+public class BulkEditCommand extends Command {
+
+    public static final String COMMAND_WORD = "bulkEdit";
+    public static final String COMMAND_ALIAS = "be";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the difficulty or subject of the flashcards "
+            + "identified by the index numbers used in the displayed flashcard list. "
+            + "Existing values will be overwritten by the input values.\n"
+            + "Parameters: INDEX [MORE_INDEXES]... (must be positive integers) "
+            + "[" + PREFIX_DIFFICULTY + "DIFFICULTY] "
+            + "[" + PREFIX_SUBJECT + "SUBJECT]\n"
+            + "Example: " + COMMAND_WORD + " 1 2 5 "
+            + PREFIX_DIFFICULTY + "3";
+
+    public static final String MESSAGE_EDIT_FLASHCARDS_SUCCESS = "Edited %1$d flashcards";
+    public static final String MESSAGE_NOT_EDITED = "A difficulty or subject to edit must be provided.";
+
+    private final List<Index> indexes;
+    private final EditFlashcardDescriptor editFlashcardDescriptor;
+
+    /**
+     * @param indexes of the flashcards in the displayed flashcard list to edit
+     * @param editFlashcardDescriptor difficulty and subject to edit the flashcards with
+     */
+    public BulkEditCommand(List<Index> indexes, EditFlashcardDescriptor editFlashcardDescriptor) {
+        requireNonNull(indexes);
+        requireNonNull(editFlashcardDescriptor);
+        assert !editFlashcardDescriptor.getTopic().isPresent() && !editFlashcardDescriptor.getContent().isPresent();
+
+        this.indexes = new ArrayList<>(indexes);
+        this.editFlashcardDescriptor = new EditFlashcardDescriptor(editFlashcardDescriptor);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        List<Flashcard> flashcardsToEdit =
+                BulkDeleteCommand.getDisplayedFlashcards(model.getUpdatedFlashcardList(), indexes);
+
+        model.beginBatch();
+        try {
+            for (Flashcard flashcardToEdit : flashcardsToEdit) {
+                // the identity of the flashcard is not edited, so the edited flashcard cannot be a duplicate
+                model.setFlashcard(flashcardToEdit,
+                        EditCommand.createEditedFlashcard(flashcardToEdit, editFlashcardDescriptor));
+            }
+        } catch (RuntimeException e) {
+            model.abortBatch();
+            throw e;
+        }
+        model.commitBatch();
+        model.commitFlashBook();
+        return new CommandResult(String.format(MESSAGE_EDIT_FLASHCARDS_SUCCESS, flashcardsToEdit.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkEditCommand)) {
+            return false;
+        }
+
+        // state check
+        BulkEditCommand e = (BulkEditCommand) other;
+        return indexes.equals(e.indexes)
+                && editFlashcardDescriptor.equals(e.editFlashcardDescriptor);
+    }
+}
@@ -2,13 +2,15 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.FlashBook;
 import seedu.address.model.Model;
 import seedu.address.model.subject.SubjectBook;
 
 /**
- * Clears the flash book.
+ * Clears the flash book. Clearing a flash book too large to be kept in the undo history cannot be undone, which
+ * the result says.
  */
 public class ClearCommand extends Command {
 
@@ -25,6 +27,9 @@ public class ClearCommand extends Command {
         model.setSubjectBook(new SubjectBook());
         model.setFlashBook(new FlashBook());
         model.commitFlashBook();
+        if (!model.canUndoFlashBook()) {
+            return new CommandResult(MESSAGE_SUCCESS + "\n" + Messages.MESSAGE_CHANGE_NOT_UNDOABLE);
+        }
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
@@ -45,11 +45,6 @@ public class DeleteCommand extends Command {
         }
 
         Flashcard flashcardToDelete = updatedFlashcardList.get(targetIndex.getZeroBased());
-        if (updatedFlashcardList.size() == 1) {
-            model.deleteSubject(flashcardToDelete.getSubject());
-            model.updateFilteredSubjectList(Model.PREDICATE_SHOW_ALL_SUBJECTS);
-        }
-
         model.deleteFlashcard(flashcardToDelete);
         model.commitFlashBook();
         model.setSelectedSubject(flashcardToDelete.getSubject());
@@ -2,14 +2,13 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.List;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 
 /**
- * Lists all the commands entered by user from the start of app launch.
+ * Lists the commands entered by user, as far back as the command history keeps them.
  */
 public class HistoryCommand extends Command {
 
@@ -20,14 +19,17 @@ public class HistoryCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(history);
-        ArrayList<String> previousCommands = new ArrayList<>(history.getHistory());
+        List<String> previousCommands = history.getHistory();
 
         if (previousCommands.isEmpty()) {
             return new CommandResult(MESSAGE_NO_HISTORY);
         }
 
-        Collections.reverse(previousCommands);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, String.join("\n", previousCommands)));
+        StringBuilder mostRecentFirst = new StringBuilder(previousCommands.get(previousCommands.size() - 1));
+        for (int i = previousCommands.size() - 2; i >= 0; i--) {
+            mostRecentFirst.append('\n').append(previousCommands.get(i));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, mostRecentFirst));
     }
 
 }
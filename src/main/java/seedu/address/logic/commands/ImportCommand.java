@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.events.ui.ImportProgressEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.storage.DelimitedFlashcardReader;
+
+/**
+ * Adds all the flashcards in a CSV or TSV file to the flash book, as a single change that is undone in one step.
+ * Flashcards that are already in the flash book, or appear earlier in the file, are skipped.
+ * The flashcards are added as the file is read, so the file is never held in memory as a whole. An import too
+ * large to be kept in the undo history cannot be undone, which the result says.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the flashcards in a CSV or TSV file to the "
+            + "flash book. Each row of the file is a flashcard, with the columns "
+            + "TOPIC, DIFFICULTY, CONTENT[, SUBJECT[, DEADLINE]].\n"
+            + "Parameters: FILE_PATH (must end with " + DelimitedFlashcardReader.CSV_FILE_EXTENSION + " or "
+            + DelimitedFlashcardReader.TSV_FILE_EXTENSION + ")\n"
+            + "Example: " + COMMAND_WORD + " decks/english.csv";
+
+    public static final String MESSAGE_SUCCESS =
+            "Imported %1$d flashcards from %2$s (%3$d duplicates and %4$d invalid rows skipped)";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File not found: %1$s";
+    public static final String MESSAGE_FILE_NOT_READ = "Could not read %1$s: %2$s";
+    public static final int MAX_INVALID_ROWS_SHOWN = 5;
+
+    private final Path filePath;
+
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        if (!Files.isRegularFile(filePath)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        int sizeBeforeImport = model.getFlashBook().getFlashcardList().size();
+        Consumer<Flashcard> importer = flashcard -> {
+            if (!model.hasFlashcard(flashcard)) {
+                model.addFlashcard(flashcard);
+            }
+        };
+        DelimitedFlashcardReader.Result readResult;
+        model.beginBatch();
+        try {
+            readResult = new DelimitedFlashcardReader(filePath).read(importer, linesRead ->
+                    EventsCenter.getInstance().post(new ImportProgressEvent(filePath, linesRead)));
+        } catch (IOException ioe) {
+            model.abortBatch();
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_READ, filePath, ioe.getMessage()), ioe);
+        } catch (RuntimeException e) {
+            model.abortBatch();
+            throw e;
+        }
+        model.commitBatch();
+        int importedCount = model.getFlashBook().getFlashcardList().size() - sizeBeforeImport;
+        if (importedCount > 0) {
+            model.commitFlashBook();
+        }
+
+        List<String> invalidRows = readResult.getInvalidRows();
+        int duplicateCount = readResult.getFlashcardCount() - importedCount;
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, importedCount, filePath,
+                duplicateCount, invalidRows.size()));
+        invalidRows.stream().limit(MAX_INVALID_ROWS_SHOWN).forEach(row -> message.append('\n').append(row));
+        if (importedCount > 0 && !model.canUndoFlashBook()) {
+            message.append('\n').append(Messages.MESSAGE_CHANGE_NOT_UNDOABLE);
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath));
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.BulkDeleteCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BulkDeleteCommand object
+ */
+public class BulkDeleteCommandParser implements Parser<BulkDeleteCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BulkDeleteCommand
+     * and returns a BulkDeleteCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BulkDeleteCommand parse(String args) throws ParseException {
+        try {
+            List<Index> indexes = ParserUtil.parseIndexes(args);
+            return new BulkDeleteCommand(indexes);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkDeleteCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DIFFICULTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.BulkEditCommand;
+import seedu.address.logic.commands.EditCommand.EditFlashcardDescriptor;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BulkEditCommand object
+ */
+public class BulkEditCommandParser implements Parser<BulkEditCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BulkEditCommand
+     * and returns a BulkEditCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BulkEditCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DIFFICULTY, PREFIX_SUBJECT);
+
+        List<Index> indexes;
+
+        try {
+            indexes = ParserUtil.parseIndexes(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkEditCommand.MESSAGE_USAGE), pe);
+        }
+
+        EditFlashcardDescriptor editFlashcardDescriptor = new EditFlashcardDescriptor();
+        if (argMultimap.getValue(PREFIX_DIFFICULTY).isPresent()) {
+            editFlashcardDescriptor.setDifficulty(ParserUtil
+                    .parseDifficulty(argMultimap.getValue(PREFIX_DIFFICULTY).get()));
+        }
+        EditCommandParser.parseTagsForEdit(argMultimap.getAllValues(PREFIX_SUBJECT))
+                .ifPresent(editFlashcardDescriptor::setTags);
+
+        if (!editFlashcardDescriptor.isAnyFieldEdited()) {
+            throw new ParseException(BulkEditCommand.MESSAGE_NOT_EDITED);
+        }
+
+        return new BulkEditCommand(indexes, editFlashcardDescriptor);
+    }
+
+}
@@ -66,7 +66,7 @@ public class EditCommandParser implements Parser<EditCommand> {
      * If {@code tags} contain only one element which is an empty string, it will be parsed into a
      * {@code Set<SubjectTag>} containing zero tags.
      */
-    private Optional<Set<SubjectTag>> parseTagsForEdit(Collection<String> tags) throws ParseException {
+    static Optional<Set<SubjectTag>> parseTagsForEdit(Collection<String> tags) throws ParseException {
         assert tags != null;
 
         if (tags.isEmpty()) {
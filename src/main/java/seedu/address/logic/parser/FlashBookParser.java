@@ -3,10 +3,12 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.HashMap;
+import java.util.Map;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BulkDeleteCommand;
+import seedu.address.logic.commands.BulkEditCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeadlineCommand;
@@ -17,6 +19,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.NextCommand;
 import seedu.address.logic.commands.PreviousCommand;
@@ -33,9 +36,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class FlashBookParser {
 
     /**
-     * Used for initial separation of command word and args.
+     * The parser of each command word and alias. Parsers keep no state, so each is shared by every command it parses.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    private static final Map<String, Parser<?>> PARSERS = createParsers();
 
     /**
      * Parses user input into command for execution.
@@ -45,98 +48,87 @@ public class FlashBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        int end = userInput.length();
+        while (end > 0 && userInput.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int commandWordStart = 0;
+        while (commandWordStart < end && userInput.charAt(commandWordStart) <= ' ') {
+            commandWordStart++;
+        }
+        int commandWordEnd = commandWordStart;
+        while (commandWordEnd < end && !isWhitespace(userInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        if (commandWordStart == end || hasLineTerminator(userInput, commandWordEnd, end)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_ALIAS:
-            return new EditCommandParser().parse(arguments);
-
-        case SelectCommand.COMMAND_WORD:
-            return new SelectCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_ALIAS:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case ClearCommand.COMMAND_ALIAS:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case FindCommand.COMMAND_ALIAS:
-            return new FindCommandParser().parse(arguments);
-
-        case DeadlineCommand.COMMAND_WORD:
-            return new DeadlineCommandParser().parse(arguments);
-
-        case DeadlineCommand.COMMAND_ALIAS:
-            return new DeadlineCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ListCommand.COMMAND_ALIAS:
-            return new ListCommand();
-
-        case NextCommand.COMMAND_WORD:
-            return new NextCommand();
-
-        case NextCommand.COMMAND_ALIAS:
-            return new NextCommand();
-
-        case PreviousCommand.COMMAND_WORD:
-            return new PreviousCommand();
-
-        case PreviousCommand.COMMAND_ALIAS:
-            return new PreviousCommand();
-
-        case HistoryCommand.COMMAND_WORD:
-            return new HistoryCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case UndoCommand.COMMAND_WORD:
-            return new UndoCommand();
-
-        case RedoCommand.COMMAND_WORD:
-            return new RedoCommand();
-
-        case SortCommand.COMMAND_WORD:
-            return new SortCommandParser().parse(arguments);
+        final String commandWord = userInput.substring(commandWordStart, commandWordEnd);
+        final String arguments = userInput.substring(commandWordEnd, end);
+        Parser<?> parser = PARSERS.get(commandWord);
+        if (parser == null) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return parser.parse(arguments);
+    }
 
-        case SortCommand.COMMAND_ALIAS:
-            return new SortCommandParser().parse(arguments);
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
 
-        case SelectSubjectCommand.COMMAND_WORD:
-            return new SelectSubjectCommandParser().parse(arguments);
+    /**
+     * Returns true if there is a line terminator between {@code start} and {@code end} of {@code userInput}.
+     * Commands are a single line, so their arguments must not contain one.
+     */
+    private static boolean hasLineTerminator(String userInput, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = userInput.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        case DeleteSubjectCommand.COMMAND_WORD:
-            return new DeleteSubjectCommandParser().parse(arguments);
+    /**
+     * Returns the parser of each command word and alias.
+     */
+    private static Map<String, Parser<?>> createParsers() {
+        Map<String, Parser<?>> parsers = new HashMap<>();
+        register(parsers, new AddCommandParser(), AddCommand.COMMAND_WORD);
+        register(parsers, new EditCommandParser(), EditCommand.COMMAND_WORD, EditCommand.COMMAND_ALIAS);
+        register(parsers, new BulkEditCommandParser(), BulkEditCommand.COMMAND_WORD, BulkEditCommand.COMMAND_ALIAS);
+        register(parsers, new SelectCommandParser(), SelectCommand.COMMAND_WORD);
+        register(parsers, new DeleteCommandParser(), DeleteCommand.COMMAND_WORD, DeleteCommand.COMMAND_ALIAS);
+        register(parsers, new BulkDeleteCommandParser(),
+                BulkDeleteCommand.COMMAND_WORD, BulkDeleteCommand.COMMAND_ALIAS);
+        register(parsers, arguments -> new ClearCommand(), ClearCommand.COMMAND_WORD, ClearCommand.COMMAND_ALIAS);
+        register(parsers, new FindCommandParser(), FindCommand.COMMAND_WORD, FindCommand.COMMAND_ALIAS);
+        register(parsers, new DeadlineCommandParser(), DeadlineCommand.COMMAND_WORD, DeadlineCommand.COMMAND_ALIAS);
+        register(parsers, arguments -> new ListCommand(), ListCommand.COMMAND_WORD, ListCommand.COMMAND_ALIAS);
+        register(parsers, arguments -> new NextCommand(), NextCommand.COMMAND_WORD, NextCommand.COMMAND_ALIAS);
+        register(parsers, arguments -> new PreviousCommand(),
+                PreviousCommand.COMMAND_WORD, PreviousCommand.COMMAND_ALIAS);
+        register(parsers, arguments -> new HistoryCommand(), HistoryCommand.COMMAND_WORD);
+        register(parsers, arguments -> new ExitCommand(), ExitCommand.COMMAND_WORD);
+        register(parsers, arguments -> new HelpCommand(), HelpCommand.COMMAND_WORD);
+        register(parsers, arguments -> new UndoCommand(), UndoCommand.COMMAND_WORD);
+        register(parsers, arguments -> new RedoCommand(), RedoCommand.COMMAND_WORD);
+        register(parsers, new SortCommandParser(), SortCommand.COMMAND_WORD, SortCommand.COMMAND_ALIAS);
+        register(parsers, new SelectSubjectCommandParser(), SelectSubjectCommand.COMMAND_WORD);
+        register(parsers, new DeleteSubjectCommandParser(), DeleteSubjectCommand.COMMAND_WORD);
+        register(parsers, new ImportCommandParser(), ImportCommand.COMMAND_WORD);
+        return parsers;
+    }
 
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    /**
+     * Registers {@code parser} as the parser of {@code commandWords}.
+     */
+    private static void register(Map<String, Parser<?>> parsers, Parser<?> parser, String... commandWords) {
+        for (String commandWord : commandWords) {
+            Parser<?> previousParser = parsers.put(commandWord, parser);
+            assert previousParser == null : "Command word registered twice: " + commandWord;
         }
     }
 
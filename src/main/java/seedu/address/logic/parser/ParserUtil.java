@@ -2,8 +2,11 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
@@ -37,6 +40,24 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code oneBasedIndexes}, separated by whitespace, into a list of distinct {@code Index}es and returns
+     * it, in the order they first appear.
+     * @throws ParseException if there are no indexes, or any of the indexes is invalid.
+     */
+    public static List<Index> parseIndexes(String oneBasedIndexes) throws ParseException {
+        requireNonNull(oneBasedIndexes);
+        String trimmedIndexes = oneBasedIndexes.trim();
+        if (trimmedIndexes.isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_INDEX);
+        }
+        final Set<Index> indexSet = new LinkedHashSet<>();
+        for (String oneBasedIndex : trimmedIndexes.split("\\s+")) {
+            indexSet.add(parseIndex(oneBasedIndex));
+        }
+        return new ArrayList<>(indexSet);
+    }
+
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns the next Index number.
      * Leading and trailing whitespaces will be trimmed.
@@ -78,7 +99,7 @@ public class ParserUtil {
         if (!Topic.isValidTopic(trimmedTopic)) {
             throw new ParseException(Topic.MESSAGE_CONSTRAINTS);
         }
-        return new Topic(trimmedTopic);
+        return Topic.ofValidated(trimmedTopic);
     }
 
     /**
@@ -93,7 +114,7 @@ public class ParserUtil {
         if (!Difficulty.isValidDifficulty(trimmedDifficulty)) {
             throw new ParseException(Difficulty.MESSAGE_CONSTRAINTS);
         }
-        return new Difficulty(trimmedDifficulty);
+        return Difficulty.ofValidated(trimmedDifficulty);
     }
 
     /**
@@ -108,7 +129,7 @@ public class ParserUtil {
         if (!Content.isValidContent(trimmedContent)) {
             throw new ParseException(Content.MESSAGE_CONSTRAINTS);
         }
-        return new Content(trimmedContent);
+        return Content.ofValidated(trimmedContent);
     }
 
     /**
@@ -123,7 +144,7 @@ public class ParserUtil {
         if (!SubjectTag.isValidSubjectName(trimmedTag)) {
             throw new ParseException(SubjectTag.MESSAGE_CONSTRAINTS);
         }
-        return new SubjectTag(trimmedTag);
+        return SubjectTag.ofValidated(trimmedTag);
     }
 
     /**
@@ -135,7 +156,7 @@ public class ParserUtil {
     public static SubjectTag parseSubject(String subject) throws ParseException {
         requireNonNull(subject);
         String trimmedSubject = subject.trim();
-        SubjectTag subjectTag = new SubjectTag(trimmedSubject);
+        SubjectTag subjectTag = SubjectTag.of(trimmedSubject);
 
 
         return subjectTag;
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javafx.beans.InvalidationListener;
@@ -13,12 +14,24 @@ import seedu.address.model.flashcard.UniqueFlashcardList;
 /**
  * Wraps all data at the flash-book level
  * Duplicates are not allowed (by .isSameFlashcard comparison)
+ *
+ * Changes can be grouped into a batch with {@link #beginBatch()} and {@link #commitBatch()}. The changes made in a
+ * batch are applied to the flashcard list as they are made, but its listeners are only told of them when the batch
+ * is committed, as a single change describing the flashcards that changed, with a single notification.
+ * A batch can instead be discarded with {@link #abortBatch()}, which reverts its changes.
  */
 public class FlashBook implements ReadOnlyFlashBook {
 
     private final UniqueFlashcardList flashcards;
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
 
+    /** Reverts the changes made by the batch in progress, in the order they were made, or null outside a batch. */
+    private List<Runnable> batchReverts;
+    private boolean isLastBatchRevertTruncation;
+    private int batchDepth;
+    private boolean isModifiedInBatch;
+    private boolean isBatchAborted;
+
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -47,7 +60,13 @@ public class FlashBook implements ReadOnlyFlashBook {
      * {@code flashcards} must not contain duplicate flashcards.
      */
     public void setFlashcards(List<Flashcard> flashcards) {
+        List<Flashcard> oldFlashcards = isInBatch()
+                ? new ArrayList<>(this.flashcards.asUnmodifiableObservableList())
+                : null;
         this.flashcards.setFlashcards(flashcards);
+        if (isInBatch()) {
+            addBatchRevert(() -> this.flashcards.setFlashcards(oldFlashcards));
+        }
         indicateModified();
     }
 
@@ -70,12 +89,53 @@ public class FlashBook implements ReadOnlyFlashBook {
         return flashcards.contains(flashcard);
     }
 
+    /**
+     * Returns true if a flashcard equal to {@code flashcard} exists in the flash book.
+     */
+    public boolean hasEqualFlashcard(Flashcard flashcard) {
+        requireNonNull(flashcard);
+        return flashcards.containsEqual(flashcard);
+    }
+
     /**
      * Adds a flashcard to the flash book.
      * The flashcard must not already exist in the flash book.
      */
     public void addFlashcard(Flashcard p) {
+        int size = flashcards.asUnmodifiableObservableList().size();
         flashcards.add(p);
+        if (isInBatch() && !isLastBatchRevertTruncation) {
+            // a single truncation reverts a whole run of appended flashcards, such as an import
+            addBatchRevert(() -> flashcards.truncate(size));
+            isLastBatchRevertTruncation = true;
+        }
+        indicateModified();
+    }
+
+    /**
+     * Inserts a flashcard into the flash book at {@code index}.
+     * The flashcard must not already exist in the flash book.
+     */
+    protected void addFlashcard(int index, Flashcard p) {
+        flashcards.add(index, p);
+        if (isInBatch()) {
+            addBatchRevert(() -> flashcards.remove(p));
+        }
+        indicateModified();
+    }
+
+    /**
+     * Removes the flashcards after the first {@code size} flashcards of the flash book.
+     */
+    protected void truncateFlashcards(int size) {
+        List<Flashcard> removed = isInBatch()
+                ? new ArrayList<>(flashcards.asUnmodifiableObservableList().subList(size,
+                        flashcards.asUnmodifiableObservableList().size()))
+                : null;
+        flashcards.truncate(size);
+        if (isInBatch()) {
+            addBatchRevert(() -> removed.forEach(flashcards::add));
+        }
         indicateModified();
     }
 
@@ -89,6 +149,9 @@ public class FlashBook implements ReadOnlyFlashBook {
         requireNonNull(editedFlashcard);
 
         flashcards.setFlashcard(target, editedFlashcard);
+        if (isInBatch()) {
+            addBatchRevert(() -> flashcards.setFlashcard(editedFlashcard, target));
+        }
         indicateModified();
     }
 
@@ -97,10 +160,101 @@ public class FlashBook implements ReadOnlyFlashBook {
      * {@code key} must exist in the flash book.
      */
     public void removeFlashcard(Flashcard key) {
+        int index = isInBatch() ? flashcards.asUnmodifiableObservableList().indexOf(key) : -1;
         flashcards.remove(key);
+        if (isInBatch()) {
+            addBatchRevert(() -> flashcards.add(index, key));
+        }
         indicateModified();
     }
 
+    //// batch operations
+
+    /**
+     * Starts a batch of changes. Until the batch ends, the listeners of the flash book and of its flashcard list
+     * are not told of the changes made, although the flash book and {@link #getFlashcardList()} already reflect them.
+     * Batches may be nested; only the outermost batch tells the listeners of the changes.
+     */
+    public void beginBatch() {
+        if (batchDepth++ == 0) {
+            batchReverts = new ArrayList<>();
+            isLastBatchRevertTruncation = false;
+            isModifiedInBatch = false;
+            isBatchAborted = false;
+            flashcards.beginChange();
+        }
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}. Ending the outermost batch tells the listeners
+     * of the flashcard list of the changes made in the batch as a single change, and notifies the listeners of the
+     * flash book once, if the batch made any changes.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void commitBatch() {
+        endBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, discarding the changes made in the outermost
+     * batch when it ends, whether it is then committed or aborted. Listeners are not told of discarded changes.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void abortBatch() {
+        if (batchDepth > 0) {
+            isBatchAborted = true;
+        }
+        endBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, applying or discarding the changes of the
+     * outermost batch when it ends.
+     */
+    private void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch in progress");
+        }
+        if (--batchDepth > 0) {
+            return;
+        }
+        if (isBatchAborted) {
+            discardBatch();
+            isModifiedInBatch = false;
+        }
+        batchReverts = null;
+        flashcards.endChange();
+        if (isModifiedInBatch) {
+            indicateModified();
+        }
+    }
+
+    /**
+     * Records {@code revert} as the next change to revert if the batch in progress is aborted.
+     */
+    private void addBatchRevert(Runnable revert) {
+        batchReverts.add(revert);
+        isLastBatchRevertTruncation = false;
+    }
+
+    /**
+     * Reverts the changes made in the batch that is being aborted.
+     */
+    protected void discardBatch() {
+        for (int i = batchReverts.size() - 1; i >= 0; i--) {
+            batchReverts.get(i).run();
+        }
+    }
+
+    /**
+     * Returns true if a batch is in progress.
+     */
+    public boolean isInBatch() {
+        return batchDepth > 0;
+    }
+
     @Override
     public void addListener(InvalidationListener listener) {
         invalidationListenerManager.addListener(listener);
@@ -112,9 +266,14 @@ public class FlashBook implements ReadOnlyFlashBook {
     }
 
     /**
-     * Notifies listeners that the flash book has been modified.
+     * Notifies listeners that the flash book has been modified, or defers the notification until the batch in
+     * progress is committed.
      */
     protected void indicateModified() {
+        if (isInBatch()) {
+            isModifiedInBatch = true;
+            return;
+        }
         invalidationListenerManager.callListeners(this);
     }
 
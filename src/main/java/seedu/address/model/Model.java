@@ -127,10 +127,28 @@ public interface Model {
      */
     void setFlashcard(Flashcard target, Flashcard editedFlashcard);
 
+    /**
+     * Starts a batch of changes to the flash book. The changes made until the matching {@link #commitBatch()}
+     * are published to the flashcard lists of the model as a single change, with a single
+     * {@code FlashBookChangedEvent}. The filtered flashcard lists are not updated until then.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, publishing its changes.
+     */
+    void commitBatch();
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, discarding the changes made in the outermost
+     * batch. To be called instead of {@link #commitBatch()} when the batch fails part way.
+     */
+    void abortBatch();
+
     /** Returns an unmodifiable view of the filtered flashcard list */
     ObservableList<Flashcard> getFilteredFlashcardList();
 
-    /** Returns an unmodifiable view of the filtered flashcard list */
+    /** Returns an unmodifiable view of the flashcards of the selected subject in the filtered flashcard list */
     ObservableList<Flashcard> getUpdatedFlashcardList();
 
     /**
@@ -10,7 +10,6 @@ import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.beans.property.SimpleObjectProperty;
-import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
@@ -19,9 +18,12 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.FlashBookChangedEvent;
 import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.FlashcardIndex;
+import seedu.address.model.flashcard.IndexedFlashcardPredicate;
 import seedu.address.model.flashcard.exceptions.FlashcardNotFoundException;
 import seedu.address.model.subject.ReadOnlySubjectBook;
 import seedu.address.model.subject.SubjectBook;
+import seedu.address.model.subject.SubjectIndex;
 import seedu.address.model.tag.SubjectTag;
 
 /**
@@ -33,26 +35,49 @@ public class ModelManager extends ComponentManager implements Model {
     private final VersionedFlashBook versionedFlashBook;
     private final SubjectBook subjectBook;
     private final UserPrefs userPrefs;
+    private final FlashcardIndex flashcardIndex;
+    private final SubjectIndex subjectIndex;
     private final FilteredList<Flashcard> filteredFlashcards;
     private final SimpleObjectProperty<Flashcard> selectedFlashcard = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<SubjectTag> selectedSubject = new SimpleObjectProperty<>();
     private final FilteredList<SubjectTag> filteredSubjects;
-    private ObservableList<Flashcard> updatedFlashcardList = FXCollections.observableArrayList();
+    private final FilteredList<Flashcard> selectedSubjectFlashcards;
+    private boolean isFlashBookChangedInBatch;
+    private boolean shouldShowAllFlashcardsAfterBatch;
 
     /**
      * Initializes a ModelManager with the given flashBook and userPrefs.
      */
     public ModelManager(ReadOnlySubjectBook subjectBook, ReadOnlyFlashBook flashBook, ReadOnlyUserPrefs userPrefs) {
+        this(subjectBook, flashBook, userPrefs, VersionedFlashBook.DEFAULT_MAX_HISTORY_DEPTH,
+                VersionedFlashBook.DEFAULT_MAX_RETAINED_FLASHCARDS);
+    }
+
+    /**
+     * Initializes a ModelManager with the given flashBook and userPrefs, whose undo history keeps at most
+     * {@code maxHistoryDepth} changes and at most {@code maxRetainedFlashcards} flashcards.
+     */
+    public ModelManager(ReadOnlySubjectBook subjectBook, ReadOnlyFlashBook flashBook, ReadOnlyUserPrefs userPrefs,
+                        int maxHistoryDepth, int maxRetainedFlashcards) {
         super();
         requireAllNonNull(subjectBook, flashBook, userPrefs);
 
         logger.fine("Initializing with flash book: " + flashBook + " and user prefs " + userPrefs);
 
-        versionedFlashBook = new VersionedFlashBook(flashBook);
+        versionedFlashBook = new VersionedFlashBook(flashBook, maxHistoryDepth, maxRetainedFlashcards);
         this.subjectBook = new SubjectBook(subjectBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        // the index must be created before the filtered list, so that it is updated first on every change
+        flashcardIndex = new FlashcardIndex(versionedFlashBook.getFlashcardList());
+        subjectIndex = new SubjectIndex(versionedFlashBook.getFlashcardList());
+        subjectIndex.getSubjectList().addListener(this::updateSubjectsInUse);
         filteredFlashcards = new FilteredList<>(versionedFlashBook.getFlashcardList());
         filteredFlashcards.addListener(this::ensureSelectedFlashcardIsValid);
+        selectedSubjectFlashcards = new FilteredList<>(filteredFlashcards);
+        selectedSubject.addListener((observable, oldSubject, newSubject) ->
+                selectedSubjectFlashcards.setPredicate(newSubject == null
+                        ? null
+                        : flashcard -> newSubject.equals(flashcard.getSubject())));
         filteredSubjects = new FilteredList<>(this.subjectBook.getSubjectList());
         filteredSubjects.addListener(this::ensureSelectedSubjectIsValid);
     }
@@ -167,6 +192,21 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
 
+    /**
+     * Adds the subjects that came into use to the subject book, and removes those no longer in use from it,
+     * as the flashcards in the flash book change.
+     */
+    private void updateSubjectsInUse(ListChangeListener.Change<? extends SubjectTag> change) {
+        while (change.next()) {
+            for (SubjectTag subject : change.getRemoved()) {
+                if (subjectBook.hasSubject(subject)) {
+                    subjectBook.deleteSubject(subject);
+                }
+            }
+            change.getAddedSubList().forEach(subjectBook::addSubject);
+        }
+    }
+
     /**
      * Ensures {@code selectedFlashcard} is a valid flashcard in {@code filteredFlashcards}.
      */
@@ -208,6 +248,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void setFlashBook(ReadOnlyFlashBook flashBook) {
         versionedFlashBook.resetData(flashBook);
+        indicateFlashBookChanged();
     }
 
     @Override
@@ -215,7 +256,14 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedFlashBook;
     }
 
+    /**
+     * Raises a {@code FlashBookChangedEvent}, or defers it until the batch in progress is committed.
+     */
     private void indicateFlashBookChanged() {
+        if (versionedFlashBook.isInBatch()) {
+            isFlashBookChangedInBatch = true;
+            return;
+        }
         raise(new FlashBookChangedEvent(versionedFlashBook));
     }
 
@@ -234,7 +282,11 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void addFlashcard(Flashcard flashcard) {
         versionedFlashBook.addFlashcard(flashcard);
-        updateFilteredFlashcardList(PREDICATE_SHOW_ALL_FLASHCARDS);
+        if (versionedFlashBook.isInBatch()) {
+            shouldShowAllFlashcardsAfterBatch = true;
+        } else {
+            updateFilteredFlashcardList(PREDICATE_SHOW_ALL_FLASHCARDS);
+        }
         indicateFlashBookChanged();
     }
 
@@ -243,8 +295,40 @@ public class ModelManager extends ComponentManager implements Model {
         requireAllNonNull(target, editedFlashcard);
 
         versionedFlashBook.setFlashcard(target, editedFlashcard);
+        indicateFlashBookChanged();
+    }
+
+
+    @Override
+    public void beginBatch() {
+        versionedFlashBook.beginBatch();
+    }
+
+    @Override
+    public void commitBatch() {
+        versionedFlashBook.commitBatch();
+        if (versionedFlashBook.isInBatch()) {
+            return;
+        }
+        if (shouldShowAllFlashcardsAfterBatch) {
+            shouldShowAllFlashcardsAfterBatch = false;
+            updateFilteredFlashcardList(PREDICATE_SHOW_ALL_FLASHCARDS);
+        }
+        if (isFlashBookChangedInBatch) {
+            isFlashBookChangedInBatch = false;
+            indicateFlashBookChanged();
+        }
     }
 
+    @Override
+    public void abortBatch() {
+        versionedFlashBook.abortBatch();
+        if (versionedFlashBook.isInBatch()) {
+            return;
+        }
+        shouldShowAllFlashcardsAfterBatch = false;
+        isFlashBookChangedInBatch = false;
+    }
 
     //=========== Filtered Flashcard List Accessors =============================================================
 
@@ -258,34 +342,28 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     /**
-     * Returns an unmodifiable view of the list of {@code Flashcard} backed by the internal list of
-     * {@code versionedFlashBook}
+     * Returns an unmodifiable view of the flashcards of the selected subject in the filtered flashcard list,
+     * or of the whole filtered flashcard list if no subject is selected.
+     * The view is updated as the flash book changes, and filtered again only when the selected subject changes.
      */
     @Override
     public ObservableList<Flashcard> getUpdatedFlashcardList() {
-
-        updatedFlashcardList.clear();
-
-        for (Flashcard f : filteredFlashcards) {
-            if (selectedSubject.getValue().equals(f.getSubject())) {
-                updatedFlashcardList.add(f);
-            }
-        }
-
-        for (SubjectTag s : filteredSubjects) {
-            if (!s.equals(selectedSubject.get())) {
-                setSelectedSubject(s);
-                break;
-            }
-        }
-
-        return updatedFlashcardList;
+        return selectedSubjectFlashcards;
     }
 
+    /**
+     * Updates the filter of the filtered flashcard list to filter by the given {@code predicate}.
+     * Predicates that can be looked up in the flashcard index are resolved through it, instead of being
+     * evaluated on every flashcard.
+     */
     @Override
     public void updateFilteredFlashcardList(Predicate<Flashcard> predicate) {
         requireNonNull(predicate);
-        filteredFlashcards.setPredicate(predicate);
+        if (predicate instanceof IndexedFlashcardPredicate) {
+            filteredFlashcards.setPredicate(flashcardIndex.resolve((IndexedFlashcardPredicate) predicate));
+        } else {
+            filteredFlashcards.setPredicate(predicate);
+        }
     }
 
     //=========== Undo/Redo =================================================================================
@@ -331,12 +409,20 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void setSelectedFlashcard(Flashcard flashcard) {
-        if (flashcard != null && !filteredFlashcards.contains(flashcard)) {
+        if (flashcard != null && !isInFilteredFlashcardList(flashcard)) {
             throw new FlashcardNotFoundException();
         }
         selectedFlashcard.setValue(flashcard);
     }
 
+    /**
+     * Returns true if {@code filteredFlashcards} contains {@code flashcard}, without scanning the list.
+     */
+    private boolean isInFilteredFlashcardList(Flashcard flashcard) {
+        Predicate<? super Flashcard> predicate = filteredFlashcards.getPredicate();
+        return versionedFlashBook.hasEqualFlashcard(flashcard) && (predicate == null || predicate.test(flashcard));
+    }
+
     /**
      * Ensures {@code selectedFlashcard} is a valid flashcard in {@code filteredFlashcards}.
      */
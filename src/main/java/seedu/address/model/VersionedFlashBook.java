@@ -1,37 +1,155 @@
 package seedu.address.model;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.flashcard.Flashcard;
 
 /**
  * {@code FlashBook} that keeps track of its own history.
+ *
+ * Instead of copying the whole flash book on every commit, the history is kept as a log of the changes made
+ * between consecutive states. Committing only records the changes made since the last commit, and undo/redo
+ * reverts/reapplies just those changes on the flashcard list. Unchanged flashcards are shared by all states.
  */
 public class VersionedFlashBook extends FlashBook {
 
-    private final List<ReadOnlyFlashBook> flashBookStateList;
+    /** Default maximum number of commits that can be undone. */
+    public static final int DEFAULT_MAX_HISTORY_DEPTH = 100;
+
+    /** Default maximum number of flashcard references that the history may retain. */
+    public static final int DEFAULT_MAX_RETAINED_FLASHCARDS = 200_000;
+
+    /** {@code committedChanges.get(i)} takes the flash book from state {@code i} to state {@code i + 1}. */
+    private final List<List<Change>> committedChanges = new ArrayList<>();
+    private final List<Change> uncommittedChanges = new ArrayList<>();
+    private final int maxHistoryDepth;
+    private final int maxRetainedFlashcards;
+    private int retainedFlashcards;
     private int currentStatePointer;
+    /** The number of uncommitted changes when the batch in progress began. */
+    private int uncommittedChangeCountBeforeBatch;
+    /** The last uncommitted change, if it appends flashcards that more appended flashcards can join. */
+    private AddChange openAddChange;
 
     public VersionedFlashBook(ReadOnlyFlashBook initialState) {
-        super(initialState);
+        this(initialState, DEFAULT_MAX_HISTORY_DEPTH, DEFAULT_MAX_RETAINED_FLASHCARDS);
+    }
 
-        flashBookStateList = new ArrayList<>();
-        flashBookStateList.add(new FlashBook(initialState));
+    /**
+     * Creates a {@code VersionedFlashBook} that remembers at most {@code maxHistoryDepth} commits, and drops its
+     * oldest commits once the history retains more than {@code maxRetainedFlashcards} flashcard references.
+     */
+    public VersionedFlashBook(ReadOnlyFlashBook initialState, int maxHistoryDepth, int maxRetainedFlashcards) {
+        super();
+        checkArgument(maxHistoryDepth >= 0, "History depth cannot be negative");
+        checkArgument(maxRetainedFlashcards >= 0, "History memory bound cannot be negative");
+        this.maxHistoryDepth = maxHistoryDepth;
+        this.maxRetainedFlashcards = maxRetainedFlashcards;
+
+        resetData(initialState);
+        uncommittedChanges.clear();
         currentStatePointer = 0;
     }
 
+    //// recorded flashcard operations
+
+    @Override
+    public void setFlashcards(List<Flashcard> flashcards) {
+        List<Flashcard> oldFlashcards = new ArrayList<>(getFlashcardList());
+        super.setFlashcards(flashcards);
+        record(new ResetChange(oldFlashcards, new ArrayList<>(flashcards)));
+    }
+
     /**
-     * Saves a copy of the current {@code FlashBook} state at the end of the state list.
+     * Adds a flashcard to the flash book. Flashcards appended one after another are recorded as a single change,
+     * so that importing many flashcards does not record a change per flashcard.
+     */
+    @Override
+    public void addFlashcard(Flashcard p) {
+        super.addFlashcard(p);
+        if (openAddChange != null) {
+            openAddChange.flashcards.add(p);
+            return;
+        }
+        AddChange addChange = new AddChange(p);
+        record(addChange);
+        openAddChange = addChange;
+    }
+
+    @Override
+    public void setFlashcard(Flashcard target, Flashcard editedFlashcard) {
+        super.setFlashcard(target, editedFlashcard);
+        record(new SetChange(target, editedFlashcard));
+    }
+
+    @Override
+    public void removeFlashcard(Flashcard key) {
+        int index = getFlashcardList().indexOf(key);
+        super.removeFlashcard(key);
+        record(new RemoveChange(key, index));
+    }
+
+    private void record(Change change) {
+        uncommittedChanges.add(change);
+        openAddChange = null;
+    }
+
+    @Override
+    public void beginBatch() {
+        if (!isInBatch()) {
+            uncommittedChangeCountBeforeBatch = uncommittedChanges.size();
+            // the flashcards appended in the batch must be discarded separately if the batch is aborted
+            openAddChange = null;
+        }
+        super.beginBatch();
+    }
+
+    @Override
+    protected void discardBatch() {
+        super.discardBatch();
+        uncommittedChanges.subList(uncommittedChangeCountBeforeBatch, uncommittedChanges.size()).clear();
+        openAddChange = null;
+    }
+
+    //// versioning
+
+    /**
+     * Saves the changes made since the last commit as a new state at the end of the state list.
      * Undone states are removed from the state list.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        flashBookStateList.add(new FlashBook(this));
+        List<Change> changes = new ArrayList<>(uncommittedChanges);
+        uncommittedChanges.clear();
+        openAddChange = null;
+        committedChanges.add(changes);
+        retainedFlashcards += countRetainedFlashcards(changes);
         currentStatePointer++;
+        removeStatesBeyondBounds();
         indicateModified();
     }
 
     private void removeStatesAfterCurrentPointer() {
-        flashBookStateList.subList(currentStatePointer + 1, flashBookStateList.size()).clear();
+        List<List<Change>> undoneChanges = committedChanges.subList(currentStatePointer, committedChanges.size());
+        undoneChanges.forEach(changes -> retainedFlashcards -= countRetainedFlashcards(changes));
+        undoneChanges.clear();
+    }
+
+    /**
+     * Forgets the oldest states until the history is within its depth and memory bounds.
+     */
+    private void removeStatesBeyondBounds() {
+        while (!committedChanges.isEmpty()
+                && (committedChanges.size() > maxHistoryDepth || retainedFlashcards > maxRetainedFlashcards)) {
+            retainedFlashcards -= countRetainedFlashcards(committedChanges.remove(0));
+            currentStatePointer--;
+        }
     }
 
     /**
@@ -41,8 +159,12 @@ public class VersionedFlashBook extends FlashBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        List<Change> changes = committedChanges.get(currentStatePointer - 1);
+        replay(changes.size() + uncommittedChanges.size(), () -> {
+            revertUncommittedChanges();
+            revert(changes);
+        });
         currentStatePointer--;
-        resetData(flashBookStateList.get(currentStatePointer));
     }
 
     /**
@@ -52,8 +174,44 @@ public class VersionedFlashBook extends FlashBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        List<Change> changes = committedChanges.get(currentStatePointer);
+        replay(changes.size() + uncommittedChanges.size(), () -> {
+            revertUncommittedChanges();
+            changes.forEach(change -> change.apply(this));
+        });
         currentStatePointer++;
-        resetData(flashBookStateList.get(currentStatePointer));
+    }
+
+    /**
+     * Runs {@code replay}, which replays {@code changeCount} changes, as a single batch if there is more than one
+     * change, so that listeners see a single change instead of one change per replayed change.
+     */
+    private void replay(int changeCount, Runnable replay) {
+        if (changeCount <= 1) {
+            replay.run();
+            return;
+        }
+        beginBatch();
+        try {
+            replay.run();
+        } finally {
+            commitBatch();
+        }
+    }
+
+    /**
+     * Discards the changes made since the last commit, restoring the flash book to its current state.
+     */
+    private void revertUncommittedChanges() {
+        revert(uncommittedChanges);
+        uncommittedChanges.clear();
+        openAddChange = null;
+    }
+
+    private void revert(List<Change> changes) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert(this);
+        }
     }
 
     /**
@@ -67,7 +225,37 @@ public class VersionedFlashBook extends FlashBook {
      * Returns true if {@code redo()} has flash book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < flashBookStateList.size() - 1;
+        return currentStatePointer < committedChanges.size();
+    }
+
+    private static int countRetainedFlashcards(List<Change> changes) {
+        return changes.stream().mapToInt(Change::getRetainedFlashcards).sum();
+    }
+
+    //// unrecorded flashcard operations, used when replaying the history
+
+    private void replayAdd(Flashcard flashcard) {
+        super.addFlashcard(flashcard);
+    }
+
+    private void replayAdd(int index, Flashcard flashcard) {
+        super.addFlashcard(index, flashcard);
+    }
+
+    private void replayRemove(Flashcard flashcard) {
+        super.removeFlashcard(flashcard);
+    }
+
+    private void replayTruncate(int size) {
+        super.truncateFlashcards(size);
+    }
+
+    private void replaySet(Flashcard target, Flashcard editedFlashcard) {
+        super.setFlashcard(target, editedFlashcard);
+    }
+
+    private void replayReset(List<Flashcard> flashcards) {
+        super.setFlashcards(flashcards);
     }
 
     @Override
@@ -86,8 +274,176 @@ public class VersionedFlashBook extends FlashBook {
 
         // state check
         return super.equals(otherVersionedFlashBook)
-                && flashBookStateList.equals(otherVersionedFlashBook.flashBookStateList)
-                && currentStatePointer == otherVersionedFlashBook.currentStatePointer;
+                && currentStatePointer == otherVersionedFlashBook.currentStatePointer
+                && getStates().equals(otherVersionedFlashBook.getStates());
+    }
+
+    /**
+     * Returns a copy of every committed state, reconstructed by replaying the history on a scratch flash book.
+     */
+    private List<FlashBook> getStates() {
+        VersionedFlashBook scratch = new VersionedFlashBook(this, 0, 0);
+        scratch.revert(uncommittedChanges);
+
+        List<FlashBook> states = new ArrayList<>();
+        states.add(new FlashBook(scratch));
+        for (int i = currentStatePointer - 1; i >= 0; i--) {
+            scratch.revert(committedChanges.get(i));
+            states.add(0, new FlashBook(scratch));
+        }
+        scratch.resetData(states.get(currentStatePointer));
+        for (int i = currentStatePointer; i < committedChanges.size(); i++) {
+            committedChanges.get(i).forEach(change -> change.apply(scratch));
+            states.add(new FlashBook(scratch));
+        }
+        return states;
+    }
+
+    /**
+     * A single change to the flashcard list that can be applied and reverted.
+     */
+    private abstract static class Change {
+        /**
+         * Applies this change to {@code flashBook}, which must be in the state this change was made from.
+         */
+        abstract void apply(VersionedFlashBook flashBook);
+
+        /**
+         * Reverts this change on {@code flashBook}, which must be in the state this change resulted in.
+         */
+        abstract void revert(VersionedFlashBook flashBook);
+
+        /**
+         * Returns the number of flashcard references held by this change.
+         */
+        abstract int getRetainedFlashcards();
+    }
+
+    /**
+     * Flashcards appended to the end of the list, one after another.
+     */
+    private static class AddChange extends Change {
+        private final List<Flashcard> flashcards = new ArrayList<>(1);
+
+        AddChange(Flashcard flashcard) {
+            flashcards.add(flashcard);
+        }
+
+        @Override
+        void apply(VersionedFlashBook flashBook) {
+            flashcards.forEach(flashBook::replayAdd);
+        }
+
+        @Override
+        void revert(VersionedFlashBook flashBook) {
+            // the appended flashcards are still the last flashcards of the list when the change is reverted
+            flashBook.replayTruncate(flashBook.getFlashcardList().size() - flashcards.size());
+        }
+
+        @Override
+        int getRetainedFlashcards() {
+            return flashcards.size();
+        }
+    }
+
+    /**
+     * A flashcard removed from position {@code index} of the list.
+     */
+    private static class RemoveChange extends Change {
+        private final Flashcard flashcard;
+        private final int index;
+
+        RemoveChange(Flashcard flashcard, int index) {
+            this.flashcard = flashcard;
+            this.index = index;
+        }
+
+        @Override
+        void apply(VersionedFlashBook flashBook) {
+            flashBook.replayRemove(flashcard);
+        }
+
+        @Override
+        void revert(VersionedFlashBook flashBook) {
+            flashBook.replayAdd(index, flashcard);
+        }
+
+        @Override
+        int getRetainedFlashcards() {
+            return 1;
+        }
+    }
+
+    /**
+     * A flashcard replaced in place by an edited flashcard.
+     */
+    private static class SetChange extends Change {
+        private final Flashcard target;
+        private final Flashcard editedFlashcard;
+
+        SetChange(Flashcard target, Flashcard editedFlashcard) {
+            this.target = target;
+            this.editedFlashcard = editedFlashcard;
+        }
+
+        @Override
+        void apply(VersionedFlashBook flashBook) {
+            flashBook.replaySet(target, editedFlashcard);
+        }
+
+        @Override
+        void revert(VersionedFlashBook flashBook) {
+            flashBook.replaySet(editedFlashcard, target);
+        }
+
+        @Override
+        int getRetainedFlashcards() {
+            return 2;
+        }
+    }
+
+    /**
+     * The whole flashcard list replaced by another list.
+     */
+    private static class ResetChange extends Change {
+        private final List<Flashcard> oldFlashcards;
+        private final List<Flashcard> newFlashcards;
+        private final int retainedFlashcards;
+
+        ResetChange(List<Flashcard> oldFlashcards, List<Flashcard> newFlashcards) {
+            this.oldFlashcards = Collections.unmodifiableList(oldFlashcards);
+            this.newFlashcards = Collections.unmodifiableList(newFlashcards);
+            retainedFlashcards = countDistinctFlashcards(oldFlashcards, newFlashcards);
+        }
+
+        /**
+         * Returns the number of distinct flashcard objects in {@code oldFlashcards} and {@code newFlashcards}.
+         * The flashcards left unchanged by a reset are in both lists, but take memory only once.
+         */
+        private static int countDistinctFlashcards(List<Flashcard> oldFlashcards, List<Flashcard> newFlashcards) {
+            if (oldFlashcards.isEmpty() || newFlashcards.isEmpty()) {
+                return oldFlashcards.size() + newFlashcards.size();
+            }
+            Set<Flashcard> distinctFlashcards = Collections.newSetFromMap(new IdentityHashMap<>());
+            distinctFlashcards.addAll(oldFlashcards);
+            distinctFlashcards.addAll(newFlashcards);
+            return distinctFlashcards.size();
+        }
+
+        @Override
+        void apply(VersionedFlashBook flashBook) {
+            flashBook.replayReset(newFlashcards);
+        }
+
+        @Override
+        void revert(VersionedFlashBook flashBook) {
+            flashBook.replayReset(oldFlashcards);
+        }
+
+        @Override
+        int getRetainedFlashcards() {
+            return retainedFlashcards;
+        }
     }
 
     /**
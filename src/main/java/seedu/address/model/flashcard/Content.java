@@ -3,9 +3,16 @@ package seedu.address.model.flashcard;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Flashcard's content in the flash book.
  * Guarantees: immutable; is valid as declared in {@link #isValidContent(String)}
+ *
+ * Contents can be long, so a content read from storage may be loaded only when its value is first needed
+ * (see {@link #ofLazy(int, Supplier)}). Its hash code is known up front, so that flashcards can be compared and
+ * indexed without loading their contents.
  */
 public class Content {
 
@@ -17,7 +24,15 @@ public class Content {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
-    public final String value;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private final int hash;
+
+    /** The content, or null until it is loaded by {@code loader}. Volatile, as it is read without a lock. */
+    private volatile String value;
+
+    /** Loads the content when it is first needed, or null once it has been loaded. */
+    private Supplier<String> loader;
 
     /**
      * Constructs an {@code Content}.
@@ -25,33 +40,82 @@ public class Content {
      * @param content A valid content.
      */
     public Content(String content) {
+        this(content, true);
+    }
+
+    private Content(String content, boolean shouldValidate) {
         requireNonNull(content);
-        checkArgument(isValidContent(content), MESSAGE_CONSTRAINTS);
+        if (shouldValidate) {
+            checkArgument(isValidContent(content), MESSAGE_CONSTRAINTS);
+        }
         value = content;
+        hash = content.hashCode();
+    }
+
+    private Content(int hash, Supplier<String> loader) {
+        requireNonNull(loader);
+        this.hash = hash;
+        this.loader = loader;
+    }
+
+    /**
+     * Constructs a {@code Content} from a content that the caller has already checked with
+     * {@link #isValidContent(String)}, without checking it again.
+     */
+    public static Content ofValidated(String content) {
+        assert isValidContent(content);
+        return new Content(content, false);
+    }
+
+    /**
+     * Constructs a {@code Content} whose value is only loaded by {@code loader} when it is first needed.
+     * The value must be valid, and {@code hash} must be its {@link String#hashCode()}.
+     */
+    public static Content ofLazy(int hash, Supplier<String> loader) {
+        return new Content(hash, loader);
+    }
+
+    /**
+     * Returns the content, loading it first if it has not been loaded yet.
+     */
+    public String getValue() {
+        String loadedValue = value;
+        if (loadedValue != null) {
+            return loadedValue;
+        }
+        synchronized (this) {
+            if (value == null) {
+                value = loader.get();
+                loader = null;
+                assert value.hashCode() == hash && isValidContent(value);
+            }
+            return value;
+        }
     }
 
     /**
      * Returns true if a given string is a valid content.
      */
     public static boolean isValidContent(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Content // instanceof handles nulls
-                && value.equals(((Content) other).value)); // state check
+                && hash == ((Content) other).hash
+                && getValue().equals(((Content) other).getValue())); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return hash;
     }
 
 }
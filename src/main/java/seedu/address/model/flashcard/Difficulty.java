@@ -3,6 +3,8 @@ package seedu.address.model.flashcard;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Flashcard's difficulty level in the flash book.
  * Guarantees: immutable; is valid as declared in {@link #isValidDifficulty(String)}
@@ -14,6 +16,13 @@ public class Difficulty {
             "Difficulty levels should only contain number 1 (easy), 2 (medium) or 3 (difficult)!";
     public static final String VALIDATION_REGEX = "[1-3]";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    /** The canonical instance of every difficulty level, indexed by level - 1. */
+    private static final Difficulty[] DIFFICULTY_LEVELS = {
+        new Difficulty("1"), new Difficulty("2"), new Difficulty("3")
+    };
+
     public final String value;
 
     /**
@@ -27,11 +36,32 @@ public class Difficulty {
         value = difficulty;
     }
 
+    /**
+     * Returns the canonical {@code Difficulty} of the given difficulty level.
+     * Flashcards that share a difficulty level then share the same instance.
+     *
+     * @param difficulty A valid difficulty level.
+     */
+    public static Difficulty of(String difficulty) {
+        requireNonNull(difficulty);
+        checkArgument(isValidDifficulty(difficulty), MESSAGE_CONSTRAINTS);
+        return ofValidated(difficulty);
+    }
+
+    /**
+     * Returns the canonical {@code Difficulty} of a difficulty level that the caller has already checked with
+     * {@link #isValidDifficulty(String)}, without checking it again.
+     */
+    public static Difficulty ofValidated(String difficulty) {
+        assert isValidDifficulty(difficulty);
+        return DIFFICULTY_LEVELS[difficulty.charAt(0) - '1'];
+    }
+
     /**
      * Returns true if a given string is a valid difficulty level.
      */
     public static boolean isValidDifficulty(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -15,6 +15,8 @@ import seedu.address.model.tag.SubjectTag;
  */
 public class Flashcard {
 
+    private static final Set<SubjectTag> NO_TAGS = Collections.unmodifiableSet(Collections.emptySet());
+
     // Identity fields
     private final Topic topic;
     private final Difficulty difficulty;
@@ -22,11 +24,12 @@ public class Flashcard {
     // Data fields
     private final Content content;
     private final Deadline deadline;
-    private final Set<SubjectTag> subjectTag = new HashSet<>();
+    private final Set<SubjectTag> subjectTag;
 
-    private SubjectTag subject;
+    private final SubjectTag subject;
 
-    private String subjectName;
+    /** Cached hash code, computed on first use. Zero if not yet computed. */
+    private int hash;
 
     /**
      * Every field must be present and not null.
@@ -38,12 +41,23 @@ public class Flashcard {
         this.difficulty = difficulty;
         this.content = content;
         this.deadline = deadline;
-        this.subjectTag.addAll(subjectTag);
-        for (SubjectTag s : subjectTag) {
-            this.subject = s;
-            break;
+        this.subjectTag = toCompactSet(subjectTag);
+        this.subject = this.subjectTag.isEmpty() ? null : this.subjectTag.iterator().next();
+    }
+
+    /**
+     * Returns an unmodifiable copy of {@code tags}. Flashcards usually have a single tag, so the copy is specialised
+     * for zero and one tags to avoid the overhead of a {@code HashSet}.
+     */
+    private static Set<SubjectTag> toCompactSet(Set<SubjectTag> tags) {
+        switch (tags.size()) {
+        case 0:
+            return NO_TAGS;
+        case 1:
+            return Set.of(tags.iterator().next());
+        default:
+            return Collections.unmodifiableSet(new HashSet<>(tags));
         }
-        this.subjectName = subjectTag.toString();
     }
 
     public Topic getTopic() {
@@ -67,7 +81,7 @@ public class Flashcard {
     }
 
     public String getSubjectName() {
-        return subjectName;
+        return subjectTag.toString();
     }
 
     /**
@@ -75,7 +89,7 @@ public class Flashcard {
      * if modification is attempted.
      */
     public Set<SubjectTag> getTags() {
-        return Collections.unmodifiableSet(subjectTag);
+        return subjectTag;
     }
 
     /**
@@ -115,8 +129,11 @@ public class Flashcard {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(topic, difficulty, content, subjectTag);
+        if (hash == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            hash = Objects.hash(topic, difficulty, content, subjectTag);
+        }
+        return hash;
     }
 
     @Override
@@ -0,0 +1,171 @@
+package seedu.address.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.WordMatcher;
+
+/**
+ * Inverted indexes over the topic words, subject, difficulty and deadline of the flashcards in an
+ * {@code ObservableList}. The indexes are kept up to date incrementally as flashcards are added, edited
+ * and removed from the list.
+ *
+ * Keys are case-folded like the keywords of a {@link WordMatcher}, so that lookups ignore case.
+ * Flashcards are held by reference, so the returned sets compare flashcards by identity.
+ */
+public class FlashcardIndex {
+
+    private final Map<String, Set<Flashcard>> topicWordIndex = new HashMap<>();
+    private final Map<String, Set<Flashcard>> subjectIndex = new HashMap<>();
+    private final Map<String, Set<Flashcard>> difficultyIndex = new HashMap<>();
+    private final Map<String, Set<Flashcard>> deadlineIndex = new HashMap<>();
+
+    /** Incremented on every change to the indexed list. */
+    private long version;
+
+    /**
+     * Creates an index over {@code flashcards}. Register this before any other listener of {@code flashcards}
+     * that relies on the index, so that the index is updated first.
+     */
+    public FlashcardIndex(ObservableList<Flashcard> flashcards) {
+        requireNonNull(flashcards);
+        flashcards.forEach(this::index);
+        flashcards.addListener(this::handleChange);
+    }
+
+    /**
+     * Updates the indexes with the flashcards added to and removed from the list by {@code change}.
+     */
+    private void handleChange(ListChangeListener.Change<? extends Flashcard> change) {
+        version++;
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::unindex);
+            change.getAddedSubList().forEach(this::index);
+        }
+    }
+
+    /**
+     * Adds {@code flashcard} to the indexes.
+     */
+    private void index(Flashcard flashcard) {
+        for (String word : flashcard.getTopic().getWords()) {
+            add(topicWordIndex, word, flashcard);
+        }
+        if (flashcard.getSubject() != null) {
+            add(subjectIndex, flashcard.getSubject().subjectName, flashcard);
+        }
+        add(difficultyIndex, flashcard.getDifficulty().value, flashcard);
+        add(deadlineIndex, flashcard.getDeadline().value, flashcard);
+    }
+
+    /**
+     * Removes {@code flashcard} from the indexes.
+     */
+    private void unindex(Flashcard flashcard) {
+        for (String word : flashcard.getTopic().getWords()) {
+            remove(topicWordIndex, word, flashcard);
+        }
+        if (flashcard.getSubject() != null) {
+            remove(subjectIndex, flashcard.getSubject().subjectName, flashcard);
+        }
+        remove(difficultyIndex, flashcard.getDifficulty().value, flashcard);
+        remove(deadlineIndex, flashcard.getDeadline().value, flashcard);
+    }
+
+    private static String fold(String key) {
+        return WordMatcher.fold(key.trim());
+    }
+
+    private static void add(Map<String, Set<Flashcard>> index, String key, Flashcard flashcard) {
+        index.computeIfAbsent(fold(key), unused -> newFlashcardSet()).add(flashcard);
+    }
+
+    /**
+     * Removes {@code flashcard} from the set of {@code key} in {@code index}, dropping the set once it is empty.
+     */
+    private static void remove(Map<String, Set<Flashcard>> index, String key, Flashcard flashcard) {
+        String foldedKey = fold(key);
+        Set<Flashcard> flashcards = index.get(foldedKey);
+        if (flashcards == null) {
+            return;
+        }
+        flashcards.remove(flashcard);
+        if (flashcards.isEmpty()) {
+            index.remove(foldedKey);
+        }
+    }
+
+    private static Set<Flashcard> lookUp(Map<String, Set<Flashcard>> index, String key) {
+        Set<Flashcard> flashcards = index.get(fold(key));
+        return flashcards == null ? Collections.emptySet() : Collections.unmodifiableSet(flashcards);
+    }
+
+    /**
+     * Returns a new, empty set that compares flashcards by identity.
+     */
+    public static Set<Flashcard> newFlashcardSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Returns the flashcards that are matched by any of the {@code keys}, as looked up by {@code lookUp}.
+     */
+    public static Set<Flashcard> union(List<String> keys, Function<String, Set<Flashcard>> lookUp) {
+        Set<Flashcard> matches = newFlashcardSet();
+        keys.forEach(key -> matches.addAll(lookUp.apply(key)));
+        return matches;
+    }
+
+    /**
+     * Returns the flashcards whose topic contains {@code word}, ignoring case.
+     */
+    public Set<Flashcard> getFlashcardsWithTopicWord(String word) {
+        return lookUp(topicWordIndex, word);
+    }
+
+    /**
+     * Returns the flashcards whose subject is named {@code subjectName}, ignoring case.
+     */
+    public Set<Flashcard> getFlashcardsWithSubject(String subjectName) {
+        return lookUp(subjectIndex, subjectName);
+    }
+
+    /**
+     * Returns the flashcards with the difficulty {@code difficulty}.
+     */
+    public Set<Flashcard> getFlashcardsWithDifficulty(String difficulty) {
+        return lookUp(difficultyIndex, difficulty);
+    }
+
+    /**
+     * Returns the flashcards with the deadline {@code deadline}, ignoring case.
+     */
+    public Set<Flashcard> getFlashcardsWithDeadline(String deadline) {
+        return lookUp(deadlineIndex, deadline);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that tests flashcards against a precomputed set of
+     * matches instead of evaluating {@code predicate} on every flashcard.
+     * Flashcards added to the list after the matches were computed are tested with {@code predicate} itself.
+     */
+    public Predicate<Flashcard> resolve(IndexedFlashcardPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Flashcard> matches = predicate.getMatches(this);
+        long resolvedVersion = version;
+        return flashcard -> version == resolvedVersion ? matches.contains(flashcard) : predicate.test(flashcard);
+    }
+}
@@ -0,0 +1,17 @@
+package seedu.address.model.flashcard;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate<Flashcard>} whose matches can be looked up in a {@code FlashcardIndex}
+ * instead of being tested against every flashcard.
+ */
+public interface IndexedFlashcardPredicate extends Predicate<Flashcard> {
+
+    /**
+     * Returns the flashcards in {@code index} that satisfy this predicate.
+     * The result must contain exactly the indexed flashcards for which {@link #test(Object)} returns true.
+     */
+    Set<Flashcard> getMatches(FlashcardIndex index);
+}
@@ -3,6 +3,11 @@ package seedu.address.model.flashcard;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.WordMatcher;
+
 /**
  * Represents a Flashcard's topic in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTopic(String)}
@@ -18,26 +23,53 @@ public class Topic {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String fullTopic;
 
+    /** The case-folded words of {@code fullTopic}, split once so that topic searches allocate nothing. */
+    private final List<String> words;
+
     /**
      * Constructs a {@code Topic}.
      *
      * @param topic A valid topic.
      */
     public Topic(String topic) {
+        this(topic, true);
+    }
+
+    private Topic(String topic, boolean shouldValidate) {
         requireNonNull(topic);
-        checkArgument(isValidTopic(topic), MESSAGE_CONSTRAINTS);
+        if (shouldValidate) {
+            checkArgument(isValidTopic(topic), MESSAGE_CONSTRAINTS);
+        }
         fullTopic = topic;
+        words = WordMatcher.splitWords(topic);
+    }
+
+    /**
+     * Constructs a {@code Topic} from a topic that the caller has already checked with
+     * {@link #isValidTopic(String)}, without checking it again.
+     */
+    public static Topic ofValidated(String topic) {
+        assert isValidTopic(topic);
+        return new Topic(topic, false);
     }
 
     /**
      * Returns true if a given string is a valid topic.
      */
     public static boolean isValidTopic(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
+    /**
+     * Returns the case-folded words of this topic.
+     */
+    public List<String> getWords() {
+        return words;
+    }
 
     @Override
     public String toString() {
@@ -1,32 +1,41 @@
 package seedu.address.model.flashcard;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.WordMatcher;
 
 /**
  * Tests that a {@code Flashcard}'s {@code Topic} matches any of the keywords given.
  */
-public class TopicContainsDoublePredicate implements Predicate<Flashcard> {
+public class TopicContainsDoublePredicate implements IndexedFlashcardPredicate {
     private final List<String> keywordsSubject;
     private final List<String> keywordsDifficulty;
+    private final WordMatcher subjectMatcher;
+    private final WordMatcher difficultyMatcher;
 
     public TopicContainsDoublePredicate(List<String> keywordsSubject, List<String> keywordsDifficulty) {
         this.keywordsSubject = keywordsSubject;
         this.keywordsDifficulty = keywordsDifficulty;
+        this.subjectMatcher = new WordMatcher(keywordsSubject);
+        this.difficultyMatcher = new WordMatcher(keywordsDifficulty);
 
     }
 
     @Override
     public boolean test(Flashcard flashcard) {
-        return keywordsSubject.stream().anyMatch(keyword -> StringUtil.containsWordIgnoreCase(
-                flashcard.getSubject().subjectName, keyword))
-                && keywordsDifficulty.stream().anyMatch(keyword -> StringUtil.containsWordIgnoreCase(
-                        flashcard.getDifficulty().value, keyword));
+        return subjectMatcher.matches(flashcard.getSubject().subjectName)
+                && difficultyMatcher.matches(flashcard.getDifficulty().value);
 
     }
 
+    @Override
+    public Set<Flashcard> getMatches(FlashcardIndex index) {
+        Set<Flashcard> matches = FlashcardIndex.union(keywordsSubject, index::getFlashcardsWithSubject);
+        matches.retainAll(FlashcardIndex.union(keywordsDifficulty, index::getFlashcardsWithDifficulty));
+        return matches;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,24 +1,30 @@
 package seedu.address.model.flashcard;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.WordMatcher;
 
 /**
  * Tests that a {@code Flashcard}'s {@code Topic} matches any of the keywords given.
  */
-public class TopicContainsSubjectPredicate implements Predicate<Flashcard> {
+public class TopicContainsSubjectPredicate implements IndexedFlashcardPredicate {
     private final List<String> keywords;
+    private final WordMatcher matcher;
 
     public TopicContainsSubjectPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new WordMatcher(keywords);
     }
 
     @Override
     public boolean test(Flashcard flashcard) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(flashcard.getSubject().subjectName, keyword));
+        return matcher.matches(flashcard.getSubject().subjectName);
+    }
+
+    @Override
+    public Set<Flashcard> getMatches(FlashcardIndex index) {
+        return FlashcardIndex.union(keywords, index::getFlashcardsWithSubject);
     }
 
     @Override
@@ -3,10 +3,14 @@ package seedu.address.model.flashcard;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.address.model.flashcard.exceptions.DuplicateFlashcardException;
 import seedu.address.model.flashcard.exceptions.FlashcardNotFoundException;
@@ -19,22 +23,39 @@ import seedu.address.model.flashcard.exceptions.FlashcardNotFoundException;
  * However, the removal of a flashcard uses Flashcard#equals(Object) so
  * as to ensure that the flashcard with exactly the same fields will be removed.
  *
+ * Identities are additionally indexed in a hash map that is kept in sync with the backing list, so that
+ * identity lookups do not need to scan the whole list.
+ *
+ * Several changes can be grouped with {@link #beginChange()} and {@link #endChange()}, so that listeners of the list
+ * are told of them as a single change describing only the elements that changed.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Flashcard#isSameFlashcard(Flashcard)
  */
 public class UniqueFlashcardList implements Iterable<Flashcard> {
 
-    private final ObservableList<Flashcard> internalList = FXCollections.observableArrayList();
+    private final FlashcardObservableList internalList = new FlashcardObservableList();
     private final ObservableList<Flashcard> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Identity, Flashcard> identityIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent flashcard as the given argument.
      */
     public boolean contains(Flashcard toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameFlashcard);
+        return identityIndex.containsKey(new Identity(toCheck));
+    }
+
+    /**
+     * Returns true if the list contains a flashcard equal to the given argument, as {@code List#contains} would,
+     * without scanning the list.
+     */
+    public boolean containsEqual(Flashcard toCheck) {
+        requireNonNull(toCheck);
+        // no two flashcards in the list have the same identity, so only one flashcard can be equal to toCheck
+        return toCheck.equals(identityIndex.get(new Identity(toCheck)));
     }
 
     /**
@@ -46,9 +67,23 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
         if (contains(toAdd)) {
             throw new DuplicateFlashcardException();
         }
+        identityIndex.put(new Identity(toAdd), toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a flashcard into the list at {@code index}.
+     * The flashcard must not already exist in the list.
+     */
+    public void add(int index, Flashcard toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateFlashcardException();
+        }
+        identityIndex.put(new Identity(toAdd), toAdd);
+        internalList.add(index, toAdd);
+    }
+
     /**
      * Replaces the flashcard {@code target} in the list with {@code editedFlashcard}.
      * {@code target} must exist in the list.
@@ -66,9 +101,20 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
             throw new DuplicateFlashcardException();
         }
 
+        identityIndex.remove(new Identity(target));
+        identityIndex.put(new Identity(editedFlashcard), editedFlashcard);
         internalList.set(index, editedFlashcard);
     }
 
+    /**
+     * Removes the flashcards after the first {@code size} flashcards of the list.
+     */
+    public void truncate(int size) {
+        List<Flashcard> removed = internalList.subList(size, internalList.size());
+        removed.forEach(flashcard -> identityIndex.remove(new Identity(flashcard)));
+        removed.clear();
+    }
+
     /**
      * Removes the equivalent flashcard from the list.
      * The flashcard must exist in the list.
@@ -78,10 +124,13 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
         if (!internalList.remove(toRemove)) {
             throw new FlashcardNotFoundException();
         }
+        identityIndex.remove(new Identity(toRemove));
     }
 
     public void setFlashcards(UniqueFlashcardList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
         internalList.setAll(replacement.internalList);
     }
 
@@ -91,13 +140,38 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
      */
     public void setFlashcards(List<Flashcard> flashcards) {
         requireAllNonNull(flashcards);
-        if (!flashcardsAreUnique(flashcards)) {
-            throw new DuplicateFlashcardException();
+        Map<Identity, Flashcard> replacementIndex = new HashMap<>();
+        List<Flashcard> duplicates = new ArrayList<>();
+        for (Flashcard flashcard : flashcards) {
+            if (replacementIndex.putIfAbsent(new Identity(flashcard), flashcard) != null) {
+                duplicates.add(flashcard);
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateFlashcardException(duplicates);
         }
 
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
         internalList.setAll(flashcards);
     }
 
+    /**
+     * Starts a compound change. The changes made to the list until the matching {@link #endChange()} are reported
+     * to its listeners as a single change when that is called. Compound changes may be nested.
+     */
+    public void beginChange() {
+        internalList.beginCompoundChange();
+    }
+
+    /**
+     * Ends the compound change started by the matching {@link #beginChange()}, reporting its changes to the
+     * listeners of the list if it is the outermost compound change.
+     */
+    public void endChange() {
+        internalList.endCompoundChange();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -123,16 +197,84 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
     }
 
     /**
-     * Returns true if {@code flashcards} contains only unique flashcards.
+     * The identity fields of a flashcard, as compared by {@link Flashcard#isSameFlashcard(Flashcard)}.
+     */
+    private static class Identity {
+        private final Topic topic;
+        private final Content content;
+
+        Identity(Flashcard flashcard) {
+            topic = flashcard.getTopic();
+            content = flashcard.getContent();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Identity // instanceof handles nulls
+                    && topic.equals(((Identity) other).topic)
+                    && content.equals(((Identity) other).content));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * topic.hashCode() + content.hashCode();
+        }
+    }
+
+    /**
+     * An observable array list whose changes can be grouped into compound changes.
      */
-    private boolean flashcardsAreUnique(List<Flashcard> flashcards) {
-        for (int i = 0; i < flashcards.size() - 1; i++) {
-            for (int j = i + 1; j < flashcards.size(); j++) {
-                if (flashcards.get(i).isSameFlashcard(flashcards.get(j))) {
-                    return false;
-                }
+    private static class FlashcardObservableList extends ModifiableObservableListBase<Flashcard> {
+        private final List<Flashcard> elements = new ArrayList<>();
+
+        void beginCompoundChange() {
+            beginChange();
+        }
+
+        void endCompoundChange() {
+            endChange();
+        }
+
+        @Override
+        public Flashcard get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Flashcard element) {
+            elements.add(index, element);
+        }
+
+        @Override
+        protected Flashcard doSet(int index, Flashcard element) {
+            return elements.set(index, element);
+        }
+
+        @Override
+        protected Flashcard doRemove(int index) {
+            return elements.remove(index);
+        }
+
+        /**
+         * Removes the range at once, instead of one element at a time as {@code ModifiableObservableListBase} does,
+         * which would make clearing the list quadratic.
+         */
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            List<Flashcard> range = elements.subList(fromIndex, toIndex);
+            if (range.isEmpty()) {
+                return;
             }
+            beginChange();
+            nextRemove(fromIndex, new ArrayList<>(range));
+            range.clear();
+            endChange();
         }
-        return true;
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.model.flashcard.exceptions;
 
+import java.util.Collection;
+
 /**
  * Signals that the operation will result in duplicate Flashcards
  * (Flashcards are considered duplicates if they have the same identity).
@@ -8,4 +10,11 @@ public class DuplicateFlashcardException extends RuntimeException {
     public DuplicateFlashcardException() {
         super("Operation would result in duplicate flashcards");
     }
+
+    /**
+     * @param duplicates the entries whose identity collides with an earlier entry.
+     */
+    public DuplicateFlashcardException(Collection<?> duplicates) {
+        super("Operation would result in duplicate flashcards: " + duplicates);
+    }
 }
@@ -2,9 +2,15 @@ package seedu.address.model.subject;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.InvalidationListenerManager;
+import seedu.address.model.flashcard.Flashcard;
 import seedu.address.model.tag.SubjectTag;
 
 /**
@@ -48,6 +54,23 @@ public class SubjectBook implements ReadOnlySubjectBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates a {@code SubjectBook} of the subjects of {@code flashcards}, in the order they are first used,
+     * in a single pass over {@code flashcards}.
+     */
+    public static SubjectBook fromFlashcards(List<Flashcard> flashcards) {
+        requireNonNull(flashcards);
+        Set<SubjectTag> subjects = new LinkedHashSet<>();
+        for (Flashcard flashcard : flashcards) {
+            if (flashcard.getSubject() != null) {
+                subjects.add(flashcard.getSubject());
+            }
+        }
+        SubjectBook subjectBook = new SubjectBook();
+        subjectBook.setSubjects(new ArrayList<>(subjects));
+        return subjectBook;
+    }
+
     /**
      * Resets the existing data of this {@code SubjectBook} with {@code newData}.
      */
@@ -67,12 +90,12 @@ public class SubjectBook implements ReadOnlySubjectBook {
     }
 
     /**
-     * Adds a subject to the subject book.
-     * The subject must not already exist in the subject book.
+     * Adds a subject to the subject book, unless it already exists in the subject book.
      */
     public void addSubject(SubjectTag subject) {
-        subjects.add(subject);
-        indicateModified();
+        if (subjects.add(subject)) {
+            indicateModified();
+        }
     }
 
     /**
@@ -87,7 +110,7 @@ public class SubjectBook implements ReadOnlySubjectBook {
      * Replaces the contents of the flashcard list with {@code flashcards}.
      * {@code flashcards} must not contain duplicate flashcards.
      */
-    private void setSubjects(ObservableList<SubjectTag> subjectList) {
+    private void setSubjects(List<SubjectTag> subjectList) {
         this.subjects.setSubjects(subjectList);
         indicateModified();
     }
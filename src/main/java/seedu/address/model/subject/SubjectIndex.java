@@ -0,0 +1,107 @@
+package seedu.address.model.subject;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.tag.SubjectTag;
+
+/**
+ * Keeps the subjects in use by the flashcards in an {@code ObservableList} as another {@code ObservableList}, in the
+ * order they were first used. It is built in a single pass over the flashcards, and kept up to date incrementally as
+ * flashcards are added, edited and removed from their list.
+ *
+ * Only the number of flashcards of each subject is kept, which is enough to tell when a subject is added by its first
+ * flashcard and removed with its last. The flashcards of a subject are looked up in the {@code FlashcardIndex}.
+ */
+public class SubjectIndex {
+
+    private final Map<SubjectTag, Integer> flashcardCounts = new HashMap<>();
+    private final ObservableList<SubjectTag> subjects = FXCollections.observableArrayList();
+    private final ObservableList<SubjectTag> unmodifiableSubjects = FXCollections.unmodifiableObservableList(subjects);
+
+    /**
+     * Creates an index over {@code flashcards}.
+     */
+    public SubjectIndex(ObservableList<Flashcard> flashcards) {
+        requireNonNull(flashcards);
+        List<SubjectTag> initialSubjects = new ArrayList<>();
+        for (Flashcard flashcard : flashcards) {
+            if (index(flashcard)) {
+                initialSubjects.add(flashcard.getSubject());
+            }
+        }
+        subjects.setAll(initialSubjects);
+        flashcards.addListener(this::handleChange);
+    }
+
+    /**
+     * Updates the index with the flashcards added to and removed from the list by {@code change}.
+     * A subject whose flashcards are all replaced by flashcards of the same subject stays in place in the subjects
+     * in use, instead of being removed and added again.
+     */
+    private void handleChange(ListChangeListener.Change<? extends Flashcard> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            Set<SubjectTag> unusedSubjects = new HashSet<>();
+            for (Flashcard flashcard : change.getRemoved()) {
+                if (unindex(flashcard)) {
+                    unusedSubjects.add(flashcard.getSubject());
+                }
+            }
+            for (Flashcard flashcard : change.getAddedSubList()) {
+                if (index(flashcard) && !unusedSubjects.remove(flashcard.getSubject())) {
+                    subjects.add(flashcard.getSubject());
+                }
+            }
+            if (!unusedSubjects.isEmpty()) {
+                subjects.removeAll(unusedSubjects);
+            }
+        }
+    }
+
+    /**
+     * Counts {@code flashcard} in the index.
+     * @return true if {@code flashcard} is the first flashcard of its subject.
+     */
+    private boolean index(Flashcard flashcard) {
+        SubjectTag subject = flashcard.getSubject();
+        return subject != null && flashcardCounts.merge(subject, 1, Integer::sum) == 1;
+    }
+
+    /**
+     * Stops counting {@code flashcard} in the index.
+     * @return true if {@code flashcard} was the last flashcard of its subject.
+     */
+    private boolean unindex(Flashcard flashcard) {
+        SubjectTag subject = flashcard.getSubject();
+        Integer count = subject == null ? null : flashcardCounts.get(subject);
+        if (count == null) {
+            return false;
+        }
+        if (count > 1) {
+            flashcardCounts.put(subject, count - 1);
+            return false;
+        }
+        flashcardCounts.remove(subject);
+        return true;
+    }
+
+    /**
+     * Returns an unmodifiable view of the subjects that have at least one flashcard.
+     */
+    public ObservableList<SubjectTag> getSubjectList() {
+        return unmodifiableSubjects;
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.model.subject;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -30,26 +33,29 @@ public class UniqueSubjectList implements Iterable<SubjectTag> {
     private final ObservableList<SubjectTag> internalList = FXCollections.observableArrayList();
     private final ObservableList<SubjectTag> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    /** The subjects in {@code internalList}, for lookups in constant time. */
+    private final Set<SubjectTag> subjectSet = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent subject as the given argument.
      */
     public boolean contains(SubjectTag toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameSubject);
+        return subjectSet.contains(toCheck);
     }
 
     /**
-     * Adds a subject to the list.
-     * The subject must not already exist in the list.
+     * Adds a subject to the list, unless an equivalent subject is already in the list.
+     * @return true if the subject was added.
      */
-    public void add(SubjectTag toAdd) {
+    public boolean add(SubjectTag toAdd) {
         requireNonNull(toAdd);
 
-        if (!internalList.contains(toAdd)) {
-            internalList.add(toAdd);
+        if (!subjectSet.add(toAdd)) {
+            return false;
         }
-
+        internalList.add(toAdd);
+        return true;
     }
 
     /**
@@ -69,6 +75,8 @@ public class UniqueSubjectList implements Iterable<SubjectTag> {
             throw new DuplicateFlashcardException();
         }
 
+        subjectSet.remove(target);
+        subjectSet.add(editedFlashcard);
         internalList.set(index, editedFlashcard);
     }
 
@@ -78,14 +86,15 @@ public class UniqueSubjectList implements Iterable<SubjectTag> {
      */
     public void remove(SubjectTag toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!subjectSet.remove(toRemove)) {
             throw new FlashcardNotFoundException();
         }
+        internalList.remove(toRemove);
     }
 
     public void setSubjects(UniqueSubjectList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setSubjects(replacement.internalList);
     }
 
     /**
@@ -94,10 +103,13 @@ public class UniqueSubjectList implements Iterable<SubjectTag> {
      */
     public void setSubjects(List<SubjectTag> subjects) {
         requireAllNonNull(subjects);
-        if (!subjectsAreUnique(subjects)) {
-            throw new DuplicateFlashcardException();
+        List<SubjectTag> duplicates = findDuplicateSubjects(subjects);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateFlashcardException(duplicates);
         }
 
+        subjectSet.clear();
+        subjectSet.addAll(subjects);
         internalList.setAll(subjects);
     }
 
@@ -126,16 +138,17 @@ public class UniqueSubjectList implements Iterable<SubjectTag> {
     }
 
     /**
-     * Returns true if {@code subjects} contains only unique subjects.
+     * Returns the subjects in {@code subjects} that are the same subject as an earlier entry, in a single pass.
+     * The list is empty if {@code subjects} contains only unique subjects.
      */
-    private boolean subjectsAreUnique(List<SubjectTag> subjects) {
-        for (int i = 0; i < subjects.size() - 1; i++) {
-            for (int j = i + 1; j < subjects.size(); j++) {
-                if (subjects.get(i).isSameSubject(subjects.get(j))) {
-                    return false;
-                }
+    private static List<SubjectTag> findDuplicateSubjects(List<SubjectTag> subjects) {
+        Set<String> seenNames = new HashSet<>();
+        List<SubjectTag> duplicates = new ArrayList<>();
+        for (SubjectTag subject : subjects) {
+            if (!seenNames.add(subject.subjectName)) {
+                duplicates.add(subject);
             }
         }
-        return true;
+        return duplicates;
     }
 }
@@ -3,6 +3,11 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
 /**
  * Represents a SubjectTag in the flash book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidSubjectName(String)}
@@ -12,6 +17,11 @@ public class SubjectTag {
     public static final String MESSAGE_CONSTRAINTS = "Subjects names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    /** Subjects in use, weakly held so that subjects no longer in use can be garbage collected. */
+    private static final Interner<SubjectTag> SUBJECT_POOL = Interners.newWeakInterner();
+
     public final String subjectName;
 
     /**
@@ -20,16 +30,41 @@ public class SubjectTag {
      * @param subjectName A valid subject name.
      */
     public SubjectTag(String subjectName) {
+        this(subjectName, true);
+    }
+
+    private SubjectTag(String subjectName, boolean shouldValidate) {
         requireNonNull(subjectName);
-        checkArgument(isValidSubjectName(subjectName), MESSAGE_CONSTRAINTS);
+        if (shouldValidate) {
+            checkArgument(isValidSubjectName(subjectName), MESSAGE_CONSTRAINTS);
+        }
         this.subjectName = subjectName;
     }
 
+    /**
+     * Returns the canonical {@code SubjectTag} named {@code subjectName}.
+     * Flashcards of the same subject then share the same instance.
+     *
+     * @param subjectName A valid subject name.
+     */
+    public static SubjectTag of(String subjectName) {
+        return SUBJECT_POOL.intern(new SubjectTag(subjectName));
+    }
+
+    /**
+     * Returns the canonical {@code SubjectTag} of a subject name that the caller has already checked with
+     * {@link #isValidSubjectName(String)}, without checking it again.
+     */
+    public static SubjectTag ofValidated(String subjectName) {
+        assert isValidSubjectName(subjectName);
+        return SUBJECT_POOL.intern(new SubjectTag(subjectName, false));
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidSubjectName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
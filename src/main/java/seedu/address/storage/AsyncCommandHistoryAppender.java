@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Appends commands to a {@code CommandHistoryStorage} on a background thread.
+ *
+ * Commands requested to be appended while an earlier append is waiting or in progress are appended together,
+ * in the order they were requested.
+ */
+public class AsyncCommandHistoryAppender {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncCommandHistoryAppender.class);
+
+    private final CommandHistoryStorage commandHistoryStorage;
+    private final ThreadPoolExecutor executor;
+    private final Queue<String> pendingUserInputs = new ConcurrentLinkedQueue<>();
+
+    public AsyncCommandHistoryAppender(CommandHistoryStorage commandHistoryStorage) {
+        requireNonNull(commandHistoryStorage);
+        this.commandHistoryStorage = commandHistoryStorage;
+
+        // The appending thread is only kept alive while there are commands to append.
+        executor = new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("command-history-appender").setDaemon(true).build());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Requests {@code userInput} to be appended in the background.
+     */
+    public void requestAppend(String userInput) {
+        requireNonNull(userInput);
+        pendingUserInputs.add(userInput);
+        executor.execute(this::appendPendingUserInputs);
+    }
+
+    /**
+     * Blocks until every command requested so far has been appended.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::appendPendingUserInputs).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for the command history to be saved");
+        } catch (ExecutionException e) {
+            logger.warning("Error while waiting for the command history to be saved: " + e.getCause());
+        }
+    }
+
+    /**
+     * Appends the pending commands, if there are any. Runs on the appending thread.
+     */
+    private void appendPendingUserInputs() {
+        List<String> userInputs = new ArrayList<>();
+        String userInput;
+        while ((userInput = pendingUserInputs.poll()) != null) {
+            userInputs.add(userInput);
+        }
+        if (userInputs.isEmpty()) {
+            return;
+        }
+
+        try {
+            commandHistoryStorage.appendCommandHistory(userInputs);
+        } catch (IOException e) {
+            // losing commands from the history is not worth interrupting the user for
+            logger.warning("Failed to save command history " + StringUtil.getDetails(e));
+        }
+    }
+}
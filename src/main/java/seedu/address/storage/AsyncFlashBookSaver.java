@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyFlashBook;
+import seedu.address.model.flashcard.Flashcard;
+
+/**
+ * Saves flash books to a {@code FlashBookStorage} on a background thread.
+ *
+ * Saves requested while an earlier save is waiting or in progress are coalesced, so that a burst of changes
+ * results in a single write of the latest flash book.
+ */
+public class AsyncFlashBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncFlashBookSaver.class);
+
+    private final FlashBookStorage flashBookStorage;
+    private final Consumer<IOException> failureHandler;
+    private final ThreadPoolExecutor executor;
+
+    /** The latest flash book that has yet to be saved, or null if there is none. */
+    private final AtomicReference<ReadOnlyFlashBook> pendingFlashBook = new AtomicReference<>();
+
+    /**
+     * Creates a saver that saves to {@code flashBookStorage}, and passes the exceptions of failed saves
+     * to {@code failureHandler} on the saving thread.
+     */
+    public AsyncFlashBookSaver(FlashBookStorage flashBookStorage, Consumer<IOException> failureHandler) {
+        requireNonNull(flashBookStorage);
+        requireNonNull(failureHandler);
+        this.flashBookStorage = flashBookStorage;
+        this.failureHandler = failureHandler;
+
+        // The saving thread is only kept alive while there are saves to do.
+        executor = new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("flash-book-saver").setDaemon(true).build());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Requests {@code flashBook} to be saved in the background.
+     * The flashcards of {@code flashBook} are copied, so later changes to it are not saved by this request.
+     */
+    public void requestSave(ReadOnlyFlashBook flashBook) {
+        requireNonNull(flashBook);
+        if (pendingFlashBook.getAndSet(new Snapshot(flashBook)) == null) {
+            executor.execute(this::savePendingFlashBook);
+        }
+    }
+
+    /**
+     * Blocks until every save requested so far has been written.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::savePendingFlashBook).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for the flash book to be saved");
+        } catch (ExecutionException e) {
+            logger.warning("Error while waiting for the flash book to be saved: " + e.getCause());
+        }
+    }
+
+    /**
+     * Saves the pending flash book, if there is one. Runs on the saving thread.
+     */
+    private void savePendingFlashBook() {
+        ReadOnlyFlashBook flashBook = pendingFlashBook.getAndSet(null);
+        if (flashBook == null) {
+            return;
+        }
+
+        try {
+            flashBookStorage.saveFlashBook(flashBook);
+        } catch (IOException e) {
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * An unchanging copy of the flashcards of a flash book, which can be read from any thread.
+     */
+    private static class Snapshot implements ReadOnlyFlashBook {
+        private final ObservableList<Flashcard> flashcards;
+
+        Snapshot(ReadOnlyFlashBook source) {
+            flashcards = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getFlashcardList()));
+        }
+
+        @Override
+        public ObservableList<Flashcard> getFlashcardList() {
+            return flashcards;
+        }
+
+        @Override
+        public void addListener(InvalidationListener listener) {
+            // a snapshot never changes
+        }
+
+        @Override
+        public void removeListener(InvalidationListener listener) {
+            // a snapshot never changes
+        }
+    }
+}
@@ -0,0 +1,459 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.FlashBook;
+import seedu.address.model.ReadOnlyFlashBook;
+import seedu.address.model.flashcard.Content;
+import seedu.address.model.flashcard.Deadline;
+import seedu.address.model.flashcard.Difficulty;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.Topic;
+import seedu.address.model.flashcard.exceptions.DuplicateFlashcardException;
+import seedu.address.model.tag.SubjectTag;
+
+/**
+ * A class to access FlashBook data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with a magic number and a format version, followed by a table of every subject name, the
+ * flashcards, and a CRC32 checksum of everything before it. Strings are written as their length followed by their
+ * UTF-8 bytes. A flashcard is written as its topic, the hash code of its content, its content and deadline, its
+ * difficulty as a single byte, and its subjects as indexes into the subject table.
+ *
+ * The file is read once, through a buffer of a fixed size, and closed before the flash book is returned. Contents are
+ * not decoded when the flash book is read. Each content only keeps its UTF-8 bytes, and is decoded when it is first
+ * needed.
+ */
+public class BinaryFlashBookStorage implements FlashBookStorage {
+
+    public static final String FILE_EXTENSION = ".fbk";
+    public static final int FORMAT_VERSION = 2;
+
+    public static final String MESSAGE_NOT_A_FLASH_BOOK = "File is not a binary flash book";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary flash book version %d is not supported";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Binary flash book is corrupted: checksum mismatch";
+    public static final String MESSAGE_TRUNCATED = "Binary flash book is corrupted: unexpected end of file";
+    public static final String MESSAGE_INVALID_SUBJECT_INDEX = "Binary flash book is corrupted: no subject %d";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryFlashBookStorage.class);
+
+    private static final byte[] MAGIC = {'F', 'L', 'B', 'K'};
+    /** The first version, which has no hash codes of contents, so its contents are read up front. */
+    private static final int EAGER_CONTENT_FORMAT_VERSION = 1;
+    private static final int CHECKSUM_LENGTH = Integer.BYTES;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path filePath;
+
+    public BinaryFlashBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} is named like a binary flash book file.
+     */
+    public static boolean isBinaryFlashBookFile(Path filePath) {
+        return filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getFlashBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyFlashBook> readFlashBook() throws DataConversionException {
+        return readFlashBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readFlashBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyFlashBook> readFlashBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return Optional.of(readFlashBook(channel));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads a flash book from the whole of {@code channel}.
+     *
+     * @throws IllegalValueException if the file is corrupted or there were any data constraints violated.
+     */
+    private static FlashBook readFlashBook(FileChannel channel) throws IOException, IllegalValueException {
+        if (channel.size() < MAGIC.length + 1 + CHECKSUM_LENGTH) {
+            throw new IllegalValueException(MESSAGE_NOT_A_FLASH_BOOK);
+        }
+        FlashBookInput input = new FlashBookInput(channel);
+        byte[] magic = new byte[MAGIC.length];
+        input.get(magic);
+        if (!Arrays.equals(MAGIC, magic)) {
+            throw new IllegalValueException(MESSAGE_NOT_A_FLASH_BOOK);
+        }
+        int version = input.get();
+        if (version != FORMAT_VERSION && version != EAGER_CONTENT_FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        List<Flashcard> flashcards = new ArrayList<>();
+        try {
+            List<SubjectTag> subjects = readSubjects(input);
+            int flashcardCount = input.getInt();
+            for (int i = 0; i < flashcardCount; i++) {
+                flashcards.add(readFlashcard(input, subjects, version == FORMAT_VERSION));
+            }
+        } catch (BufferUnderflowException e) {
+            input.verifyChecksum();
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        } catch (IllegalValueException e) {
+            // a corrupted file is reported as such, rather than as the invalid value it happened to hold
+            input.verifyChecksum();
+            throw e;
+        }
+        input.verifyChecksum();
+
+        try {
+            // The flashcards are added all at once, so that the flash book checks for duplicates in a single pass.
+            FlashBook flashBook = new FlashBook();
+            flashBook.setFlashcards(flashcards);
+            return flashBook;
+        } catch (DuplicateFlashcardException e) {
+            throw new IllegalValueException(JsonSerializableFlashBook.MESSAGE_DUPLICATE_FLASHCARD);
+        }
+    }
+
+    /**
+     * Reads the subject table. Each subject name is validated once, however many flashcards refer to it.
+     */
+    private static List<SubjectTag> readSubjects(FlashBookInput input) throws IOException, IllegalValueException {
+        int subjectCount = input.getInt();
+        List<SubjectTag> subjects = new ArrayList<>();
+        for (int i = 0; i < subjectCount; i++) {
+            String subjectName = readString(input);
+            if (!SubjectTag.isValidSubjectName(subjectName)) {
+                throw new IllegalValueException(SubjectTag.MESSAGE_CONSTRAINTS);
+            }
+            subjects.add(SubjectTag.ofValidated(subjectName));
+        }
+        return subjects;
+    }
+
+    /**
+     * Reads a flashcard, whose subjects are indexes into {@code subjects}.
+     * Its content is decoded when needed if {@code isContentLazy} is true, or decoded now otherwise.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the flashcard.
+     */
+    private static Flashcard readFlashcard(FlashBookInput input, List<SubjectTag> subjects, boolean isContentLazy)
+            throws IOException, IllegalValueException {
+        String topic = readString(input);
+        if (!Topic.isValidTopic(topic)) {
+            throw new IllegalValueException(Topic.MESSAGE_CONSTRAINTS);
+        }
+        Content content = isContentLazy ? readLazyContent(input) : readContent(input);
+        String deadline = readString(input);
+        String difficulty = Integer.toString(input.get());
+        if (!Difficulty.isValidDifficulty(difficulty)) {
+            throw new IllegalValueException(Difficulty.MESSAGE_CONSTRAINTS);
+        }
+
+        int tagCount = input.getInt();
+        Set<SubjectTag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int subjectIndex = input.getInt();
+            if (subjectIndex < 0 || subjectIndex >= subjects.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_SUBJECT_INDEX, subjectIndex));
+            }
+            tags.add(subjects.get(subjectIndex));
+        }
+        return new Flashcard(Topic.ofValidated(topic), Difficulty.ofValidated(difficulty),
+                content, new Deadline(deadline), tags);
+    }
+
+    /**
+     * Reads a content written by the first version of the format.
+     */
+    private static Content readContent(FlashBookInput input) throws IOException, IllegalValueException {
+        String content = readString(input);
+        if (!Content.isValidContent(content)) {
+            throw new IllegalValueException(Content.MESSAGE_CONSTRAINTS);
+        }
+        return Content.ofValidated(content);
+    }
+
+    /**
+     * Reads a content and its hash code, returning a content that only decodes its bytes when it is first needed.
+     */
+    private static Content readLazyContent(FlashBookInput input) throws IOException, IllegalValueException {
+        int hash = input.getInt();
+        int length = input.getInt();
+        if (length <= 0 || length > input.remaining()) {
+            throw new IllegalValueException(length == 0 ? Content.MESSAGE_CONSTRAINTS : MESSAGE_TRUNCATED);
+        }
+        byte[] bytes = new byte[length];
+        input.get(bytes);
+        return Content.ofLazy(hash, () -> new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutputStream, String)}.
+     */
+    private static String readString(FlashBookInput input) throws IOException, IllegalValueException {
+        int length = input.getInt();
+        if (length < 0 || length > input.remaining()) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        }
+        byte[] bytes = new byte[length];
+        input.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void saveFlashBook(ReadOnlyFlashBook flashBook) throws IOException {
+        saveFlashBook(flashBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveFlashBook(ReadOnlyFlashBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveFlashBook(ReadOnlyFlashBook flashBook, Path filePath) throws IOException {
+        requireNonNull(flashBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, out -> {
+            CRC32 checksum = new CRC32();
+            DataOutputStream data = new DataOutputStream(
+                    new BufferedOutputStream(new CheckedOutputStream(out, checksum), BUFFER_SIZE));
+            writeFlashBook(data, flashBook);
+            data.flush();
+            out.write(ByteBuffer.allocate(CHECKSUM_LENGTH).putInt((int) checksum.getValue()).array());
+        });
+    }
+
+    /**
+     * Writes everything in the file but the checksum.
+     */
+    private static void writeFlashBook(DataOutputStream data, ReadOnlyFlashBook flashBook) throws IOException {
+        List<Flashcard> flashcards = flashBook.getFlashcardList();
+        Map<SubjectTag, Integer> subjectIndexes = new HashMap<>();
+        for (Flashcard flashcard : flashcards) {
+            for (SubjectTag tag : flashcard.getTags()) {
+                subjectIndexes.putIfAbsent(tag, subjectIndexes.size());
+            }
+        }
+        SubjectTag[] subjects = new SubjectTag[subjectIndexes.size()];
+        subjectIndexes.forEach((subject, index) -> subjects[index] = subject);
+
+        data.write(MAGIC);
+        data.writeByte(FORMAT_VERSION);
+        data.writeInt(subjects.length);
+        for (SubjectTag subject : subjects) {
+            writeString(data, subject.subjectName);
+        }
+        data.writeInt(flashcards.size());
+        for (Flashcard flashcard : flashcards) {
+            writeString(data, flashcard.getTopic().fullTopic);
+            data.writeInt(flashcard.getContent().hashCode());
+            writeString(data, flashcard.getContent().getValue());
+            writeString(data, flashcard.getDeadline().value);
+            data.writeByte(flashcard.getDifficulty().value.charAt(0) - '0');
+            data.writeInt(flashcard.getTags().size());
+            for (SubjectTag tag : flashcard.getTags()) {
+                data.writeInt(subjectIndexes.get(tag));
+            }
+        }
+    }
+
+    /**
+     * Writes {@code string} as its length followed by its UTF-8 bytes.
+     */
+    private static void writeString(DataOutputStream data, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    /**
+     * Reads the part of a binary flash book file before its checksum in order, through a buffer of a fixed size,
+     * and computes the checksum of the bytes read as it goes.
+     * Like a {@code ByteBuffer}, it throws a {@code BufferUnderflowException} when reading past that part.
+     */
+    private static class FlashBookInput {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private final CRC32 checksum = new CRC32();
+        /** The number of bytes before the checksum that have yet to be read into the buffer. */
+        private long unbufferedLength;
+
+        FlashBookInput(FileChannel channel) throws IOException {
+            this.channel = channel;
+            unbufferedLength = channel.size() - CHECKSUM_LENGTH;
+            buffer.limit(0);
+        }
+
+        /**
+         * Returns the number of bytes left to read before the checksum.
+         */
+        long remaining() {
+            return buffer.remaining() + unbufferedLength;
+        }
+
+        byte get() throws IOException {
+            require(Byte.BYTES);
+            return buffer.get();
+        }
+
+        /**
+         * Fills {@code bytes} with the next bytes.
+         */
+        void get(byte[] bytes) throws IOException {
+            if (bytes.length > remaining()) {
+                throw new BufferUnderflowException();
+            }
+            int offset = 0;
+            while (offset < bytes.length) {
+                if (!buffer.hasRemaining()) {
+                    fill();
+                }
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.get(bytes, offset, length);
+                offset += length;
+            }
+        }
+
+        int getInt() throws IOException {
+            require(Integer.BYTES);
+            return buffer.getInt();
+        }
+
+        /**
+         * Reads the rest of the bytes before the checksum, and checks that the checksum matches all of them.
+         */
+        void verifyChecksum() throws IOException, IllegalValueException {
+            while (unbufferedLength > 0) {
+                buffer.position(buffer.limit());
+                fill();
+            }
+            ByteBuffer expected = ByteBuffer.allocate(CHECKSUM_LENGTH);
+            readFully(expected);
+            if ((int) checksum.getValue() != expected.getInt(0)) {
+                throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+        }
+
+        /**
+         * Makes sure that the next {@code length} bytes, at most the size of the buffer, are in the buffer.
+         */
+        private void require(int length) throws IOException {
+            if (length > remaining()) {
+                throw new BufferUnderflowException();
+            }
+            while (buffer.remaining() < length) {
+                fill();
+            }
+        }
+
+        /**
+         * Reads as many of the bytes before the checksum as fit into the buffer after the bytes not read yet.
+         */
+        private void fill() throws IOException {
+            buffer.compact();
+            int start = buffer.position();
+            int length = (int) Math.min(buffer.remaining(), unbufferedLength);
+            buffer.limit(start + length);
+            readFully(buffer);
+            checksum.update(buffer.array(), start, length);
+            unbufferedLength -= length;
+            buffer.flip();
+        }
+
+        /**
+         * Fills the rest of {@code target} with the next bytes of the file.
+         */
+        private void readFully(ByteBuffer target) throws IOException {
+            while (target.hasRemaining()) {
+                if (channel.read(target) == -1) {
+                    throw new EOFException();
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the flash book in this storage with the flash book in the json format of
+     * {@link JsonSerializableFlashBook} at {@code jsonFilePath}.
+     *
+     * @throws DataConversionException if the json file is not in the correct format.
+     * @throws NoSuchFileException if there is no json file at {@code jsonFilePath}.
+     */
+    public void importFromJson(Path jsonFilePath) throws DataConversionException, IOException {
+        requireNonNull(jsonFilePath);
+        ReadOnlyFlashBook flashBook = new JsonFlashBookStorage(jsonFilePath).readFlashBook()
+                .orElseThrow(() -> new NoSuchFileException(jsonFilePath.toString()));
+        saveFlashBook(flashBook);
+    }
+
+    /**
+     * Writes the flash book in this storage to {@code jsonFilePath}, in the json format of
+     * {@link JsonSerializableFlashBook}.
+     *
+     * @throws DataConversionException if the binary file is not in the correct format.
+     * @throws NoSuchFileException if there is no flash book in this storage yet.
+     */
+    public void exportToJson(Path jsonFilePath) throws DataConversionException, IOException {
+        requireNonNull(jsonFilePath);
+        ReadOnlyFlashBook flashBook = readFlashBook()
+                .orElseThrow(() -> new NoSuchFileException(filePath.toString()));
+        new JsonFlashBookStorage(jsonFilePath).saveFlashBook(flashBook);
+    }
+
+}
@@ -0,0 +1,30 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Represents a storage for the command history.
+ */
+public interface CommandHistoryStorage {
+
+    /**
+     * Returns the file path of the command history file.
+     */
+    Path getCommandHistoryFilePath();
+
+    /**
+     * Returns the latest {@code capacity} commands in storage, from the earliest to the latest.
+     *   Returns an empty list if the storage file is not found.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<String> readCommandHistory(int capacity) throws IOException;
+
+    /**
+     * Appends {@code userInputs} to the commands in storage, without rewriting the commands already there.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendCommandHistory(List<String> userInputs) throws IOException;
+
+}
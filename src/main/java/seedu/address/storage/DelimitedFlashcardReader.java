@@ -0,0 +1,267 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import seedu.address.model.flashcard.Content;
+import seedu.address.model.flashcard.Deadline;
+import seedu.address.model.flashcard.Difficulty;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.Topic;
+import seedu.address.model.tag.SubjectTag;
+
+/**
+ * Reads flashcards from a CSV or TSV file, one flashcard per row, with the columns
+ * {@code TOPIC, DIFFICULTY, CONTENT[, SUBJECT[, DEADLINE]]}. A first row whose first column is "topic" is taken to
+ * be a header and skipped, as are blank rows.
+ *
+ * The file is streamed in chunks of {@link #CHUNK_SIZE} rows, and the rows of each chunk are parsed and validated
+ * in parallel. The flashcards of each chunk are handed over as soon as the chunk is parsed, so that files of
+ * hundreds of thousands of rows are read without holding all of their lines or flashcards at once.
+ * CSV fields may be quoted with double quotes to contain commas, but a row must fit on a single line.
+ */
+public class DelimitedFlashcardReader {
+
+    public static final String CSV_FILE_EXTENSION = ".csv";
+    public static final String TSV_FILE_EXTENSION = ".tsv";
+    public static final int CHUNK_SIZE = 4096;
+
+    public static final String MESSAGE_WRONG_FIELD_COUNT =
+            "Expected the fields TOPIC, DIFFICULTY, CONTENT[, SUBJECT[, DEADLINE]] but found %1$d fields";
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed";
+    public static final String MESSAGE_INVALID_ROW = "Line %1$d: %2$s";
+
+    private static final int MIN_FIELD_COUNT = 3;
+    private static final int MAX_FIELD_COUNT = 5;
+    private static final String HEADER_FIRST_FIELD = "topic";
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final char QUOTE = '"';
+
+    private final Path filePath;
+    private final char delimiter;
+
+    public DelimitedFlashcardReader(Path filePath) {
+        requireNonNull(filePath);
+        assert isDelimitedFlashcardFile(filePath);
+        this.filePath = filePath;
+        this.delimiter = hasExtension(filePath, TSV_FILE_EXTENSION) ? '\t' : ',';
+    }
+
+    /**
+     * Returns true if {@code filePath} names a CSV or TSV file.
+     */
+    public static boolean isDelimitedFlashcardFile(Path filePath) {
+        return hasExtension(filePath, CSV_FILE_EXTENSION) || hasExtension(filePath, TSV_FILE_EXTENSION);
+    }
+
+    private static boolean hasExtension(Path filePath, String extension) {
+        Path fileName = filePath.getFileName();
+        return fileName != null && fileName.toString().toLowerCase().endsWith(extension);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Reads all the flashcards in the file, and passes them to {@code flashcardConsumer} in the order of their
+     * rows. Rows that are not valid flashcards are left out and described in the result instead.
+     *
+     * @param progressListener told the number of lines read so far after each chunk of rows.
+     * @throws IOException if the file cannot be read, possibly after some of its flashcards were passed on.
+     */
+    public Result read(Consumer<Flashcard> flashcardConsumer, IntConsumer progressListener) throws IOException {
+        requireNonNull(flashcardConsumer);
+        requireNonNull(progressListener);
+        Result result = new Result();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+            int firstLineNumberOfChunk = 1;
+            int linesRead = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                linesRead++;
+                if (linesRead == 1) {
+                    line = stripByteOrderMark(line);
+                    if (isHeader(line)) {
+                        firstLineNumberOfChunk++;
+                        continue;
+                    }
+                }
+                chunk.add(line);
+                if (chunk.size() == CHUNK_SIZE) {
+                    parseChunk(chunk, firstLineNumberOfChunk, flashcardConsumer, result);
+                    progressListener.accept(linesRead);
+                    firstLineNumberOfChunk = linesRead + 1;
+                    chunk.clear();
+                }
+            }
+            parseChunk(chunk, firstLineNumberOfChunk, flashcardConsumer, result);
+            progressListener.accept(linesRead);
+        }
+        return result;
+    }
+
+    private static String stripByteOrderMark(String line) {
+        return !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK ? line.substring(1) : line;
+    }
+
+    private boolean isHeader(String line) {
+        List<String> fields = splitFields(line);
+        return fields != null && fields.get(0).trim().equalsIgnoreCase(HEADER_FIRST_FIELD);
+    }
+
+    /**
+     * Parses the rows of {@code chunk} in parallel, and passes their flashcards to {@code flashcardConsumer} in
+     * order. The invalid rows are added to {@code result}.
+     */
+    private void parseChunk(List<String> chunk, int firstLineNumber, Consumer<Flashcard> flashcardConsumer,
+                            Result result) {
+        ParsedRow[] rows = IntStream.range(0, chunk.size())
+                .parallel()
+                .mapToObj(i -> parseRow(chunk.get(i)))
+                .toArray(ParsedRow[]::new);
+        for (int i = 0; i < rows.length; i++) {
+            if (rows[i].flashcard != null) {
+                flashcardConsumer.accept(rows[i].flashcard);
+                result.flashcardCount++;
+            } else if (rows[i].error != null) {
+                result.invalidRows.add(String.format(MESSAGE_INVALID_ROW, firstLineNumber + i, rows[i].error));
+            }
+        }
+    }
+
+    /**
+     * Parses and validates a single row.
+     */
+    private ParsedRow parseRow(String line) {
+        if (line.trim().isEmpty()) {
+            return ParsedRow.BLANK;
+        }
+        List<String> fields = splitFields(line);
+        if (fields == null) {
+            return ParsedRow.invalid(MESSAGE_UNTERMINATED_QUOTE);
+        }
+        if (fields.size() < MIN_FIELD_COUNT || fields.size() > MAX_FIELD_COUNT) {
+            return ParsedRow.invalid(String.format(MESSAGE_WRONG_FIELD_COUNT, fields.size()));
+        }
+
+        String topic = fields.get(0).trim();
+        if (!Topic.isValidTopic(topic)) {
+            return ParsedRow.invalid(Topic.MESSAGE_CONSTRAINTS);
+        }
+        String difficulty = fields.get(1).trim();
+        if (!Difficulty.isValidDifficulty(difficulty)) {
+            return ParsedRow.invalid(Difficulty.MESSAGE_CONSTRAINTS);
+        }
+        String content = fields.get(2).trim();
+        if (!Content.isValidContent(content)) {
+            return ParsedRow.invalid(Content.MESSAGE_CONSTRAINTS);
+        }
+        String subject = fields.size() > 3 ? fields.get(3).trim() : "";
+        if (!subject.isEmpty() && !SubjectTag.isValidSubjectName(subject)) {
+            return ParsedRow.invalid(SubjectTag.MESSAGE_CONSTRAINTS);
+        }
+        String deadline = fields.size() > 4 ? fields.get(4).trim() : "";
+
+        Set<SubjectTag> subjects = subject.isEmpty()
+                ? Collections.emptySet()
+                : Collections.singleton(SubjectTag.ofValidated(subject));
+        return ParsedRow.valid(new Flashcard(Topic.ofValidated(topic), Difficulty.ofValidated(difficulty),
+                Content.ofValidated(content), new Deadline(deadline), subjects));
+    }
+
+    /**
+     * Splits {@code line} into its fields, or returns null if a quoted field is not closed.
+     * TSV fields are never quoted.
+     */
+    private List<String> splitFields(String line) {
+        List<String> fields = new ArrayList<>(MAX_FIELD_COUNT);
+        StringBuilder field = new StringBuilder();
+        boolean isInQuotes = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isInQuotes) {
+                if (c != QUOTE) {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    isInQuotes = false;
+                }
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == QUOTE && delimiter != '\t' && field.toString().trim().isEmpty()) {
+                field.setLength(0);
+                isInQuotes = true;
+            } else {
+                field.append(c);
+            }
+        }
+        if (isInQuotes) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * The number of flashcards read from a file, and the rows that could not be read as flashcards.
+     */
+    public static class Result {
+        private final List<String> invalidRows = new ArrayList<>();
+        private int flashcardCount;
+
+        /**
+         * Returns the number of valid flashcards read, which may duplicate each other.
+         */
+        public int getFlashcardCount() {
+            return flashcardCount;
+        }
+
+        /**
+         * Returns a description of each row that is not a valid flashcard, with its line number.
+         */
+        public List<String> getInvalidRows() {
+            return Collections.unmodifiableList(invalidRows);
+        }
+    }
+
+    /**
+     * A row that is either a valid flashcard, invalid, or blank.
+     */
+    private static class ParsedRow {
+        private static final ParsedRow BLANK = new ParsedRow(null, null);
+
+        private final Flashcard flashcard;
+        private final String error;
+
+        private ParsedRow(Flashcard flashcard, String error) {
+            this.flashcard = flashcard;
+            this.error = error;
+        }
+
+        static ParsedRow valid(Flashcard flashcard) {
+            return new ParsedRow(flashcard, null);
+        }
+
+        static ParsedRow invalid(String error) {
+            return new ParsedRow(null, error);
+        }
+    }
+
+}
@@ -0,0 +1,342 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.FlashBook;
+import seedu.address.model.ReadOnlyFlashBook;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.exceptions.DuplicateFlashcardException;
+
+/**
+ * A class to access FlashBook data stored as a json snapshot plus a journal of the changes made since the snapshot.
+ *
+ * The snapshot is a json file in the same format as that of {@link JsonFlashBookStorage}. Saving a flash book only
+ * appends records of the flashcards added, edited and deleted since the last save to the journal, so the cost of
+ * a save is proportional to the size of the change instead of the size of the flash book. Once the journal grows
+ * beyond a threshold, the next save compacts it into a new snapshot. Reading replays the journal on the snapshot.
+ *
+ * Saves are not thread-safe; they are expected to be made one at a time, e.g. by an {@link AsyncFlashBookSaver}.
+ */
+public class JournaledFlashBookStorage implements FlashBookStorage {
+
+    /** Default size in bytes of the journal beyond which it is compacted into a new snapshot. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledFlashBookStorage.class);
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final byte RECORD_SEPARATOR = '\n';
+
+    private final Path filePath;
+    private final long compactionThreshold;
+
+    /**
+     * The flashcards as of the end of the journal of {@code filePath},
+     * or null if the journal must be compacted on the next save.
+     */
+    private List<Flashcard> journaledFlashcards;
+    private long journalSize;
+
+    public JournaledFlashBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage for the flash book at {@code filePath}, which compacts its journal into a new snapshot
+     * once the journal exceeds {@code compactionThreshold} bytes.
+     */
+    public JournaledFlashBookStorage(Path filePath, long compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getFlashBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyFlashBook> readFlashBook() throws DataConversionException {
+        return readFlashBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readFlashBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyFlashBook> readFlashBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Snapshot file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        FlashBook flashBook = new FlashBook();
+        boolean isJournalAppendable;
+        try {
+            CRC32 checksum = new CRC32();
+            List<Flashcard> flashcards = new ArrayList<>(readSnapshot(filePath, checksum).getFlashcardList());
+            isJournalAppendable = replayJournal(journalFilePath, checksum.getValue(), flashcards);
+            flashBook.setFlashcards(flashcards);
+        } catch (IOException | DuplicateFlashcardException e) {
+            logger.warning("Error reading from snapshot " + filePath + " and its journal: " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            journaledFlashcards = isJournalAppendable ? new ArrayList<>(flashBook.getFlashcardList()) : null;
+            journalSize = isJournalAppendable ? journalFilePath.toFile().length() : 0;
+        }
+        return Optional.of(flashBook);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath}, updating {@code checksum} with every byte of the file.
+     */
+    private static FlashBook readSnapshot(Path filePath, CRC32 checksum) throws IOException, IllegalValueException {
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), checksum);
+                JsonParser parser = JsonUtil.createParser(in)) {
+            FlashBook snapshot = JsonFlashBookStorage.readFlashBook(parser);
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) != -1) {
+                // the trailing bytes of the file are part of the checksum too
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalFilePath} to {@code flashcards}, if the journal belongs
+     * to the snapshot with the given {@code snapshotChecksum}. A journal left behind by an interrupted compaction
+     * belongs to an older snapshot, and is ignored. So is a last record that was only partly written.
+     *
+     * @return true if more records can be appended to the journal.
+     * @throws IllegalValueException if any record other than the last is invalid.
+     */
+    private static boolean replayJournal(Path journalFilePath, long snapshotChecksum, List<Flashcard> flashcards)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalFilePath)) {
+            return false;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            if (line == null || !JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class)
+                    .isSnapshotOf(snapshotChecksum)) {
+                logger.info("Ignoring journal " + journalFilePath + " of an older snapshot");
+                return false;
+            }
+
+            line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                try {
+                    JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class).applyTo(flashcards);
+                } catch (IOException e) {
+                    if (nextLine != null) {
+                        throw e;
+                    }
+                    logger.warning("Ignoring partly written record at the end of journal " + journalFilePath);
+                    return false;
+                }
+                line = nextLine;
+            }
+        }
+        return endsWithRecordSeparator(journalFilePath);
+    }
+
+    /**
+     * Returns true if the journal at {@code journalFilePath} ends with a complete record.
+     */
+    private static boolean endsWithRecordSeparator(Path journalFilePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.READ)) {
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            return channel.read(lastByte, channel.size() - 1) == 1 && lastByte.get(0) == RECORD_SEPARATOR;
+        }
+    }
+
+    @Override
+    public void saveFlashBook(ReadOnlyFlashBook flashBook) throws IOException {
+        requireNonNull(flashBook);
+
+        List<Flashcard> flashcards = flashBook.getFlashcardList();
+        List<Flashcard> oldFlashcards = journaledFlashcards;
+        // If this save fails, the files may not match any known flashcards, so the next save must compact them.
+        journaledFlashcards = null;
+        if (oldFlashcards == null || journalSize >= compactionThreshold
+                || !appendChanges(oldFlashcards, flashcards)) {
+            compact(flashBook);
+        }
+        journaledFlashcards = new ArrayList<>(flashcards);
+    }
+
+    /**
+     * Similar to {@link #saveFlashBook(ReadOnlyFlashBook)}.
+     * A flash book saved to any other location than {@link #getFlashBookFilePath()} is saved as a snapshot only.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveFlashBook(ReadOnlyFlashBook flashBook, Path filePath) throws IOException {
+        requireNonNull(flashBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveFlashBook(flashBook);
+        } else {
+            writeSnapshot(flashBook, filePath);
+        }
+    }
+
+    /**
+     * Appends records that change {@code oldFlashcards} into {@code newFlashcards} to the journal.
+     * Flashcards are compared by reference, as flashcards are immutable and an edit always replaces the flashcard.
+     *
+     * @return false, without appending anything, if the change is too large to be worth journaling.
+     */
+    private boolean appendChanges(List<Flashcard> oldFlashcards, List<Flashcard> newFlashcards) throws IOException {
+        // Commands change a single contiguous range of the list, so only the range between the unchanged
+        // prefix and the unchanged suffix needs to be recorded.
+        int start = 0;
+        int oldEnd = oldFlashcards.size();
+        int newEnd = newFlashcards.size();
+        while (start < oldEnd && start < newEnd && oldFlashcards.get(start) == newFlashcards.get(start)) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start && oldFlashcards.get(oldEnd - 1) == newFlashcards.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        int removedCount = oldEnd - start;
+        int addedCount = newEnd - start;
+        if (removedCount + addedCount > newFlashcards.size() / 2 + 1) {
+            return false;
+        }
+
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(records, false)) {
+            generator.setRootValueSeparator(null);
+            int editedCount = Math.min(removedCount, addedCount);
+            for (int i = start; i < start + editedCount; i++) {
+                JsonAdaptedJournalRecord.writeEdit(generator, i, newFlashcards.get(i));
+                generator.writeRaw((char) RECORD_SEPARATOR);
+            }
+            for (int i = editedCount; i < removedCount; i++) {
+                JsonAdaptedJournalRecord.writeDelete(generator, start + editedCount);
+                generator.writeRaw((char) RECORD_SEPARATOR);
+            }
+            for (int i = start + editedCount; i < newEnd; i++) {
+                JsonAdaptedJournalRecord.writeAdd(generator, i, newFlashcards.get(i));
+                generator.writeRaw((char) RECORD_SEPARATOR);
+            }
+        }
+        if (records.size() == 0) {
+            return true;
+        }
+
+        try (FileChannel channel = FileChannel.open(getJournalFilePath(filePath), StandardOpenOption.WRITE)) {
+            long end = channel.size();
+            try {
+                channel.position(end);
+                writeRecords(channel, ByteBuffer.wrap(records.toByteArray()));
+                channel.force(false);
+            } catch (IOException e) {
+                // drop whatever part of the records was written, so that the journal never has a torn record
+                // followed by further records
+                try {
+                    channel.truncate(end);
+                } catch (IOException truncateException) {
+                    e.addSuppressed(truncateException);
+                }
+                throw e;
+            }
+        }
+        journalSize += records.size();
+        return true;
+    }
+
+    /**
+     * Writes all of {@code records} to the journal through {@code channel}.
+     */
+    void writeRecords(FileChannel channel, ByteBuffer records) throws IOException {
+        while (records.hasRemaining()) {
+            channel.write(records);
+        }
+    }
+
+    /**
+     * Replaces the snapshot with {@code flashBook}, and starts a new, empty journal for it.
+     */
+    private void compact(ReadOnlyFlashBook flashBook) throws IOException {
+        logger.fine("Compacting the journal of " + filePath);
+        long checksum = writeSnapshot(flashBook, filePath);
+
+        // If this is interrupted, the old journal is left behind, but it is ignored as it belongs to the old snapshot.
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(header, false)) {
+            JsonAdaptedJournalRecord.writeSnapshot(generator, checksum);
+            generator.writeRaw((char) RECORD_SEPARATOR);
+        }
+        FileUtil.writeAtomically(getJournalFilePath(filePath), header::writeTo);
+        journalSize = header.size();
+    }
+
+    /**
+     * Writes {@code flashBook} as a snapshot at {@code filePath}.
+     *
+     * @return the checksum of the snapshot file.
+     */
+    private static long writeSnapshot(ReadOnlyFlashBook flashBook, Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        FileUtil.writeAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(new CheckedOutputStream(out, checksum), false)) {
+                JsonFlashBookStorage.writeFlashBook(generator, flashBook);
+            }
+        });
+        return checksum.getValue();
+    }
+
+}
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -8,6 +9,7 @@ import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.flashcard.Content;
@@ -53,13 +55,31 @@ class JsonAdaptedFlashcard {
     public JsonAdaptedFlashcard(Flashcard source) {
         topic = source.getTopic().fullTopic;
         difficulty = source.getDifficulty().value;
-        content = source.getContent().value;
+        content = source.getContent().getValue();
         deadline = source.getDeadline().value;
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Writes {@code source} to {@code generator} in the same format as a {@code JsonAdaptedFlashcard} of it,
+     * without creating the adapted flashcard.
+     */
+    public static void write(JsonGenerator generator, Flashcard source) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("topic", source.getTopic().fullTopic);
+        generator.writeStringField("difficulty", source.getDifficulty().value);
+        generator.writeStringField("content", source.getContent().getValue());
+        generator.writeStringField("deadline", source.getDeadline().value);
+        generator.writeArrayFieldStart("tagged");
+        for (SubjectTag tag : source.getTags()) {
+            generator.writeString(tag.subjectName);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
     /**
      * Converts this Jackson-friendly adapted flashcard object into the model's {@code Flashcard} object.
      *
@@ -77,7 +97,7 @@ class JsonAdaptedFlashcard {
         if (!Topic.isValidTopic(topic)) {
             throw new IllegalValueException(Topic.MESSAGE_CONSTRAINTS);
         }
-        final Topic modelTopic = new Topic(topic);
+        final Topic modelTopic = Topic.ofValidated(topic);
 
         if (difficulty == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -86,7 +106,7 @@ class JsonAdaptedFlashcard {
         if (!Difficulty.isValidDifficulty(difficulty)) {
             throw new IllegalValueException(Difficulty.MESSAGE_CONSTRAINTS);
         }
-        final Difficulty modelDifficulty = new Difficulty(difficulty);
+        final Difficulty modelDifficulty = Difficulty.ofValidated(difficulty);
 
         if (content == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Content.class.getSimpleName()));
@@ -94,7 +114,7 @@ class JsonAdaptedFlashcard {
         if (!Content.isValidContent(content)) {
             throw new IllegalValueException(Content.MESSAGE_CONSTRAINTS);
         }
-        final Content modelContent = new Content(content);
+        final Content modelContent = Content.ofValidated(content);
 
         if (deadline == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.flashcard.Flashcard;
+
+/**
+ * Jackson-friendly version of a record in the journal of a {@link JournaledFlashBookStorage}.
+ *
+ * A journal starts with a snapshot record, which identifies the snapshot the journal applies to by its checksum.
+ * It is followed by add, edit and delete records, each of which changes a single position of the flashcard list.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+
+    private static final String SNAPSHOT_OPERATION = "snapshot";
+    private static final String ADD_OPERATION = "add";
+    private static final String EDIT_OPERATION = "edit";
+    private static final String DELETE_OPERATION = "delete";
+
+    private final String operation;
+    private final long checksum;
+    private final int index;
+    private final JsonAdaptedFlashcard flashcard;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("operation") String operation,
+                                    @JsonProperty("checksum") long checksum,
+                                    @JsonProperty("index") int index,
+                                    @JsonProperty("flashcard") JsonAdaptedFlashcard flashcard) {
+        this.operation = operation;
+        this.checksum = checksum;
+        this.index = index;
+        this.flashcard = flashcard;
+    }
+
+    /**
+     * Writes a record that starts a journal of the snapshot with the given {@code checksum}.
+     */
+    public static void writeSnapshot(JsonGenerator generator, long checksum) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("operation", SNAPSHOT_OPERATION);
+        generator.writeNumberField("checksum", checksum);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a record that inserts {@code flashcard} at {@code index}.
+     */
+    public static void writeAdd(JsonGenerator generator, int index, Flashcard flashcard) throws IOException {
+        write(generator, ADD_OPERATION, index, flashcard);
+    }
+
+    /**
+     * Writes a record that replaces the flashcard at {@code index} with {@code flashcard}.
+     */
+    public static void writeEdit(JsonGenerator generator, int index, Flashcard flashcard) throws IOException {
+        write(generator, EDIT_OPERATION, index, flashcard);
+    }
+
+    /**
+     * Writes a record that removes the flashcard at {@code index}.
+     */
+    public static void writeDelete(JsonGenerator generator, int index) throws IOException {
+        write(generator, DELETE_OPERATION, index, null);
+    }
+
+    /**
+     * Writes a record of {@code operation} on {@code index}, with {@code flashcard} unless it is null.
+     */
+    private static void write(JsonGenerator generator, String operation, int index, Flashcard flashcard)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("operation", operation);
+        generator.writeNumberField("index", index);
+        if (flashcard != null) {
+            generator.writeFieldName("flashcard");
+            JsonAdaptedFlashcard.write(generator, flashcard);
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Returns true if this record starts a journal of the snapshot with the given {@code checksum}.
+     */
+    public boolean isSnapshotOf(long checksum) {
+        return SNAPSHOT_OPERATION.equals(operation) && this.checksum == checksum;
+    }
+
+    /**
+     * Applies the change recorded by this record to {@code flashcards}.
+     *
+     * @throws IllegalValueException if this record is not a valid change to {@code flashcards}.
+     */
+    public void applyTo(List<Flashcard> flashcards) throws IllegalValueException {
+        if (ADD_OPERATION.equals(operation) && index >= 0 && index <= flashcards.size()) {
+            flashcards.add(index, toModelFlashcard());
+        } else if (EDIT_OPERATION.equals(operation) && index >= 0 && index < flashcards.size()) {
+            flashcards.set(index, toModelFlashcard());
+        } else if (DELETE_OPERATION.equals(operation) && index >= 0 && index < flashcards.size()) {
+            flashcards.remove(index);
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, operation + " " + index));
+        }
+    }
+
+    /**
+     * Converts the flashcard of this record into the model's {@code Flashcard} object.
+     */
+    private Flashcard toModelFlashcard() throws IllegalValueException {
+        if (flashcard == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, operation + " without flashcard"));
+        }
+        return flashcard.toModelType();
+    }
+
+}
@@ -50,7 +50,7 @@ class JsonAdaptedTag {
         if (!SubjectTag.isValidSubjectName(tagName)) {
             throw new IllegalValueException(SubjectTag.MESSAGE_CONSTRAINTS);
         }
-        return new SubjectTag(tagName);
+        return SubjectTag.ofValidated(tagName);
     }
 
 }
@@ -3,16 +3,25 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.FlashBook;
 import seedu.address.model.ReadOnlyFlashBook;
+import seedu.address.model.flashcard.Flashcard;
 
 /**
  * A class to access FlashBook data stored as a json file on the hard disk.
@@ -21,10 +30,31 @@ public class JsonFlashBookStorage implements FlashBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonFlashBookStorage.class);
 
+    private static final String FLASHCARDS_FIELD = "flashcards";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final boolean isBackedUp;
 
     public JsonFlashBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    public JsonFlashBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, true);
+    }
+
+    /**
+     * Creates a storage for the flash book at {@code filePath}.
+     * Saved files are indented for readability if {@code isPrettyPrinted} is true, at the cost of a larger file.
+     * The previously saved file is kept at {@link #getBackupFilePath(Path)} on each save if {@code isBackedUp} is
+     * true.
+     */
+    public JsonFlashBookStorage(Path filePath, boolean isPrettyPrinted, boolean isBackedUp) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.isBackedUp = isBackedUp;
     }
 
     public Path getFlashBookFilePath() {
@@ -45,20 +75,54 @@ public class JsonFlashBookStorage implements FlashBookStorage {
     public Optional<ReadOnlyFlashBook> readFlashBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableFlashBook> jsonFlashBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableFlashBook.class);
-        if (!jsonFlashBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonFlashBook.get().toModelType());
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            return Optional.of(readFlashBook(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Reads a flash book in the format of {@link JsonSerializableFlashBook} from {@code parser}.
+     * Each flashcard is converted and added to the flash book as soon as it is parsed, so only one
+     * {@code JsonAdaptedFlashcard} is held in memory at a time.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static FlashBook readFlashBook(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a flash book object");
+        }
+
+        FlashBook flashBook = new FlashBook();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!FLASHCARDS_FIELD.equals(fieldName) || valueToken != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                Flashcard flashcard = parser.readValueAs(JsonAdaptedFlashcard.class).toModelType();
+                if (flashBook.hasFlashcard(flashcard)) {
+                    throw new IllegalValueException(JsonSerializableFlashBook.MESSAGE_DUPLICATE_FLASHCARD);
+                }
+                flashBook.addFlashcard(flashcard);
+            }
+        }
+        return flashBook;
+    }
+
     @Override
     public void saveFlashBook(ReadOnlyFlashBook flashBook) throws IOException {
         saveFlashBook(flashBook, filePath);
@@ -73,8 +137,32 @@ public class JsonFlashBookStorage implements FlashBookStorage {
         requireNonNull(flashBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableFlashBook(flashBook), filePath);
+        FileUtil.writeAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+                writeFlashBook(generator, flashBook);
+            }
+        }, isBackedUp ? getBackupFilePath(filePath) : null);
+    }
+
+    /**
+     * Returns the path of the backup of the previously saved flash book at {@code filePath}.
+     */
+    public static Path getBackupFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Writes {@code flashBook} to {@code generator} in the format of {@link JsonSerializableFlashBook}.
+     * Flashcards are written straight from the model, without building a {@code JsonSerializableFlashBook}.
+     */
+    static void writeFlashBook(JsonGenerator generator, ReadOnlyFlashBook flashBook) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(FLASHCARDS_FIELD);
+        for (Flashcard flashcard : flashBook.getFlashcardList()) {
+            JsonAdaptedFlashcard.write(generator, flashcard);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
     }
 
 }
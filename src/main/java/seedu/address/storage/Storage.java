@@ -2,8 +2,10 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
+import seedu.address.commons.events.logic.CommandHistoryChangedEvent;
 import seedu.address.commons.events.model.FlashBookChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
@@ -15,7 +17,7 @@ import seedu.address.model.subject.ReadOnlySubjectBook;
 /**
  * API of the Storage component
  */
-public interface Storage extends SubjectBookStorage, FlashBookStorage, UserPrefsStorage {
+public interface Storage extends SubjectBookStorage, FlashBookStorage, UserPrefsStorage, CommandHistoryStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -36,10 +38,40 @@ public interface Storage extends SubjectBookStorage, FlashBookStorage, UserPrefs
     Optional<ReadOnlySubjectBook> readSubjectBook() throws DataConversionException, IOException;
 
     /**
-     * Saves the current version of the Address Book to the hard disk.
+     * Saves the current version of the Flash Book to the hard disk in the background.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleFlashBookChangedEvent(FlashBookChangedEvent event);
 
+    /**
+     * Blocks until every flash book save requested by {@link #handleFlashBookChangedEvent} has been written.
+     */
+    void flushFlashBook();
+
+    /**
+     * Defers the flash book saves requested by {@link #handleFlashBookChangedEvent} until the next
+     * {@link #checkpointFlashBook()}, so that a run of changes is saved once.
+     */
+    void deferFlashBookSaves();
+
+    /**
+     * Saves the latest flash book whose save was deferred, if there is one, and blocks until every flash book save
+     * requested so far has been written. Later saves are still deferred.
+     */
+    void checkpointFlashBook();
+
+    @Override
+    List<String> readCommandHistory(int capacity) throws IOException;
+
+    /**
+     * Appends the command added to the command history to the hard disk in the background.
+     */
+    void handleCommandHistoryChangedEvent(CommandHistoryChangedEvent event);
+
+    /**
+     * Blocks until every command appended by {@link #handleCommandHistoryChangedEvent} has been written.
+     */
+    void flushCommandHistory();
+
 }
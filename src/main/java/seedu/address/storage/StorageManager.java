@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -9,6 +10,7 @@ import com.google.common.eventbus.Subscribe;
 
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.logic.CommandHistoryChangedEvent;
 import seedu.address.commons.events.model.FlashBookChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
@@ -26,13 +28,23 @@ public class StorageManager extends ComponentManager implements Storage {
     private FlashBookStorage flashBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private SubjectBookStorage subjectBookStorage;
+    private CommandHistoryStorage commandHistoryStorage;
+    private final AsyncFlashBookSaver flashBookSaver;
+    private final AsyncCommandHistoryAppender commandHistoryAppender;
+    private boolean isFlashBookSavesDeferred;
+    /** The latest flash book whose save was deferred, or null if there is none. */
+    private ReadOnlyFlashBook deferredFlashBook;
 
 
     public StorageManager(FlashBookStorage flashBookStorage,
-                            UserPrefsStorage userPrefsStorage) {
+                            UserPrefsStorage userPrefsStorage,
+                            CommandHistoryStorage commandHistoryStorage) {
         super();
         this.flashBookStorage = flashBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.commandHistoryStorage = commandHistoryStorage;
+        this.flashBookSaver = new AsyncFlashBookSaver(flashBookStorage, e -> raise(new DataSavingExceptionEvent(e)));
+        this.commandHistoryAppender = new AsyncCommandHistoryAppender(commandHistoryStorage);
     }
 
     // ================ UserPrefs methods ==============================
@@ -82,6 +94,24 @@ public class StorageManager extends ComponentManager implements Storage {
         flashBookStorage.saveFlashBook(flashBook, filePath);
     }
 
+    // ================ CommandHistory methods ==============================
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryStorage.getCommandHistoryFilePath();
+    }
+
+    @Override
+    public List<String> readCommandHistory(int capacity) throws IOException {
+        logger.fine("Attempting to read command history from file: " + getCommandHistoryFilePath());
+        return commandHistoryStorage.readCommandHistory(capacity);
+    }
+
+    @Override
+    public void appendCommandHistory(List<String> userInputs) throws IOException {
+        commandHistoryStorage.appendCommandHistory(userInputs);
+    }
+
     // ================ SubjectBook methods ==============================
     /**
      * Returns the file path of the data file.
@@ -130,13 +160,45 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     @Subscribe
     public void handleFlashBookChangedEvent(FlashBookChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveFlashBook(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        if (isFlashBookSavesDeferred) {
+            // copied only when the checkpoint saves it
+            deferredFlashBook = event.data;
+            return;
+        }
+        // handled on the posting thread so that the flash book is copied before it changes again;
+        // the copy is written on the saver's own thread
+        flashBookSaver.requestSave(event.data);
+    }
+
+    @Override
+    public void flushFlashBook() {
+        flashBookSaver.flush();
+    }
+
+    @Override
+    public void deferFlashBookSaves() {
+        isFlashBookSavesDeferred = true;
+    }
+
+    @Override
+    public void checkpointFlashBook() {
+        if (deferredFlashBook != null) {
+            flashBookSaver.requestSave(deferredFlashBook);
+            deferredFlashBook = null;
         }
+        flashBookSaver.flush();
     }
 
+    @Override
+    @Subscribe
+    public void handleCommandHistoryChangedEvent(CommandHistoryChangedEvent event) {
+        commandHistoryAppender.requestAppend(event.userInput);
+    }
+
+    @Override
+    public void flushCommandHistory() {
+        commandHistoryAppender.flush();
+    }
 
 }
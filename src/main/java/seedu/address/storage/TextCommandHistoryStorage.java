@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Stores the command history in a text file, one command per line, appending new commands to the end of the file.
+ * Backslashes and line terminators in a command are escaped so that it fits on its line.
+ *
+ * Since commands are only ever appended, the file is compacted to the commands that are kept when it is read and
+ * holds more than {@value #COMPACTION_FACTOR} times as many commands.
+ */
+public class TextCommandHistoryStorage implements CommandHistoryStorage {
+
+    public static final int COMPACTION_FACTOR = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(TextCommandHistoryStorage.class);
+    private static final char ESCAPE = '\\';
+
+    private final Path filePath;
+
+    public TextCommandHistoryStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<String> readCommandHistory(int capacity) throws IOException {
+        assert capacity > 0;
+        Deque<String> userInputs = new ArrayDeque<>(capacity);
+        int lineCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineCount++;
+                if (userInputs.size() == capacity) {
+                    userInputs.removeFirst();
+                }
+                userInputs.addLast(unescape(line));
+            }
+        } catch (NoSuchFileException e) {
+            return new ArrayList<>();
+        }
+
+        List<String> latestUserInputs = new ArrayList<>(userInputs);
+        if (lineCount > COMPACTION_FACTOR * capacity) {
+            compact(latestUserInputs);
+        }
+        return latestUserInputs;
+    }
+
+    /**
+     * Replaces the contents of the file with {@code userInputs}. The file is left as it is if this fails.
+     */
+    private void compact(List<String> userInputs) {
+        try {
+            FileUtil.writeAtomically(filePath, out -> {
+                BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                writeLines(writer, userInputs);
+                writer.flush();
+            });
+        } catch (IOException e) {
+            logger.warning("Failed to compact command history file " + StringUtil.getDetails(e));
+        }
+    }
+
+    @Override
+    public void appendCommandHistory(List<String> userInputs) throws IOException {
+        requireNonNull(userInputs);
+        FileUtil.createParentDirsOfFile(filePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writeLines(writer, userInputs);
+        }
+    }
+
+    /**
+     * Writes each of {@code userInputs} on its own line.
+     */
+    private static void writeLines(BufferedWriter writer, List<String> userInputs) throws IOException {
+        for (String userInput : userInputs) {
+            writer.write(escape(userInput));
+            writer.newLine();
+        }
+    }
+
+    /**
+     * Returns {@code userInput} with its backslashes and line terminators escaped.
+     */
+    static String escape(String userInput) {
+        StringBuilder escaped = new StringBuilder(userInput.length());
+        for (int i = 0; i < userInput.length(); i++) {
+            char c = userInput.charAt(i);
+            switch (c) {
+            case ESCAPE:
+                escaped.append(ESCAPE).append(ESCAPE);
+                break;
+            case '\n':
+                escaped.append(ESCAPE).append('n');
+                break;
+            case '\r':
+                escaped.append(ESCAPE).append('r');
+                break;
+            default:
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Reverses {@link #escape(String)}.
+     */
+    static String unescape(String line) {
+        if (line.indexOf(ESCAPE) == -1) {
+            return line;
+        }
+        StringBuilder unescaped = new StringBuilder(line.length());
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c != ESCAPE || i + 1 == line.length()) {
+                unescaped.append(c);
+                continue;
+            }
+            char escapedChar = line.charAt(++i);
+            unescaped.append(escapedChar == 'n' ? '\n' : escapedChar == 'r' ? '\r' : escapedChar);
+        }
+        return unescaped.toString();
+    }
+
+}
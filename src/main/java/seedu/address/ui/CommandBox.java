@@ -1,15 +1,17 @@
 package seedu.address.ui;
 
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -20,19 +22,29 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
-    private final List<String> history;
+    private final Runnable queuedCommandsCanceller;
+    private final ObservableValue<List<String>> history;
     private ListElementPointer historySnapshot;
 
     @FXML
     private TextField commandTextField;
 
-    public CommandBox(CommandExecutor commandExecutor, List<String> history) {
+    /**
+     * Creates a command box that executes the commands entered with {@code commandExecutor}, and cancels the
+     * commands still waiting to be executed with {@code queuedCommandsCanceller} when Escape is pressed.
+     * {@code history} holds snapshots of the history of commands, and must only change on the JavaFX application
+     * thread, before the results of the commands are delivered.
+     */
+    public CommandBox(CommandExecutor commandExecutor, Runnable queuedCommandsCanceller,
+                      ObservableValue<List<String>> history) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.queuedCommandsCanceller = queuedCommandsCanceller;
         this.history = history;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
-        historySnapshot = new ListElementPointer(history);
+        initHistory();
+        historySnapshot.next();
     }
 
     /**
@@ -52,6 +64,9 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
+        case ESCAPE:
+            queuedCommandsCanceller.run();
+            break;
         default:
             // let JavaFx handle the keypress
         }
@@ -59,10 +74,16 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Updates the text field with the previous input in {@code historySnapshot},
-     * if there exists a previous input in {@code historySnapshot}
+     * if there exists a previous input in {@code historySnapshot}.
+     * If the user is not yet navigating the history, only the inputs that start with the text typed so far are
+     * navigated to.
      */
     private void navigateToPreviousInput() {
         assert historySnapshot != null;
+        if (!historySnapshot.hasNext()) {
+            initHistory(commandTextField.getText());
+            historySnapshot.next();
+        }
         if (!historySnapshot.hasPrevious()) {
             return;
         }
@@ -94,28 +115,44 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The text field is cleared at once, so that the next command can be typed while this one is executed.
+     * If the command fails, even unexpectedly, its text is put back in the text field, unless something else has been
+     * typed since. The text of a command that is cancelled is not put back.
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            commandExecutor.execute(commandTextField.getText());
+        String commandText = commandTextField.getText();
+        commandTextField.setText("");
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
             initHistory();
+            if (cause != null && !(cause instanceof CancellationException)
+                    && commandTextField.getText().isEmpty()) {
+                replaceText(commandText);
+                setStyleToIndicateCommandFailure();
+                return;
+            }
             historySnapshot.next();
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            initHistory();
-            setStyleToIndicateCommandFailure();
-        }
+        });
     }
 
     /**
      * Initializes the history snapshot.
      */
     private void initHistory() {
-        historySnapshot = new ListElementPointer(history);
-        // add an empty string to represent the most-recent end of historySnapshot, to be shown to
+        initHistory("");
+    }
+
+    /**
+     * Initializes the history snapshot with only the inputs that start with {@code typedText}.
+     * The history is not copied, as each value of {@code history} is a snapshot that never changes, and a new
+     * snapshot is only published with the result of a command, which initializes the pointer again.
+     */
+    private void initHistory(String typedText) {
+        historySnapshot = new ListElementPointer(history.getValue(), typedText);
+        // add the typed text to represent the most-recent end of historySnapshot, to be shown to
         // the user if she tries to navigate past the most-recent end of the historySnapshot.
-        historySnapshot.add("");
+        historySnapshot.add(typedText);
     }
 
     /**
@@ -144,11 +181,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command in the background, and returns its result, completed on the JavaFX application
+         * thread.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.CommandExecutionService#submit(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
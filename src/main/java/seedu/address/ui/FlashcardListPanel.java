@@ -5,16 +5,13 @@ import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.beans.value.ObservableValue;
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.flashcard.Flashcard;
-import seedu.address.model.tag.SubjectTag;
 
 /**
  * Panel containing the list of persons.
@@ -26,18 +23,14 @@ public class FlashcardListPanel extends UiPart<Region> {
     @FXML
     private ListView<Flashcard> flashcardListView;
 
-    private FilteredList<Flashcard> filteredList;
-
-    private ObservableList<SubjectTag> subjectListView;
-
-    private ObservableValue<SubjectTag> s;
-    private ObservableValue<Flashcard> f;
-    private ObservableList<Flashcard> list = FXCollections.observableArrayList();
-    private ObservableList<Flashcard> newFlashcardList = FXCollections.observableArrayList();
-
+    /** True while the selection follows the selected flashcard, which need not be told of its own change. */
+    private boolean isFollowingSelectedFlashcard;
 
+    /**
+     * Creates a panel that displays {@code flashcardList}, which is expected to be the flashcards of the
+     * selected subject and to follow changes of the selected subject itself.
+     */
     public FlashcardListPanel(ObservableList<Flashcard> flashcardList,
-                              ObservableValue<SubjectTag> selectedSubject,
                               ObservableValue<Flashcard> selectedFlashcard,
                               Consumer<Flashcard> onSelectedFlashcardChange) {
         super(FXML);
@@ -45,22 +38,11 @@ public class FlashcardListPanel extends UiPart<Region> {
         flashcardListView.setCellFactory(listView -> new FlashcardListViewCell());
         flashcardListView.getSelectionModel().selectedItemProperty().addListener((observable, oldValue, newValue) -> {
             logger.fine("Selection in flashcard list panel changed to : '" + newValue + "'");
-            onSelectedFlashcardChange.accept(newValue);
-        });
-
-        selectedSubject.addListener((observable, oldValue, newValue) -> {
-            if (newValue == null) {
-                flashcardListView.setItems(flashcardList);
-            } else {
-                this.newFlashcardList.clear();
-                this.newFlashcardList = updateFlashcardList(newValue, flashcardList);
-                flashcardListView.setItems(newFlashcardList);
-                flashcardListView.setCellFactory(listView -> new FlashcardListViewCell());
+            if (!isFollowingSelectedFlashcard) {
+                onSelectedFlashcardChange.accept(newValue);
             }
-
         });
 
-
         selectedFlashcard.addListener((observable, oldValue, newValue) -> {
             logger.fine("Selected flashcard changed to: " + newValue);
 
@@ -70,6 +52,7 @@ public class FlashcardListPanel extends UiPart<Region> {
                 return;
             }
 
+            isFollowingSelectedFlashcard = true;
             if (newValue == null) {
                 flashcardListView.getSelectionModel().clearSelection();
             } else {
@@ -77,6 +60,7 @@ public class FlashcardListPanel extends UiPart<Region> {
                 flashcardListView.scrollTo(index);
                 flashcardListView.getSelectionModel().clearAndSelect(index);
             }
+            isFollowingSelectedFlashcard = false;
         });
     }
 
@@ -97,18 +81,4 @@ public class FlashcardListPanel extends UiPart<Region> {
         }
     }
 
-    /**
-     * Updates list of flashcards to be displayed in FlashcardListPanel based on selected subject
-     */
-    private ObservableList<Flashcard> updateFlashcardList(SubjectTag subject,
-                                                          ObservableList<Flashcard> flashcardList) {
-        for (Flashcard f : flashcardList) {
-            if (subject.equals(f.getSubject())) {
-                list.add(f);
-            }
-        }
-        return list;
-    }
-
-
 }
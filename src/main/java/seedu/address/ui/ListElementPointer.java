@@ -13,39 +13,53 @@ import java.util.NoSuchElementException;
  * {@code next()} and {@code previous()}, the next and previous elements are returned respectively.
  */
 public class ListElementPointer {
-    private List<String> list;
+    private final List<String> list;
+    private final int listSize;
+    private final List<String> addedElements = new ArrayList<>();
+    private final String prefix;
     private int index;
 
     /**
-     * Constructs {@code ListElementPointer} which is backed by a defensive copy of {@code list}.
+     * Constructs {@code ListElementPointer} which is backed by {@code list}, without copying it.
+     * {@code list} must not be changed while the pointer is in use.
      * The cursor points to the last element in {@code list}.
      */
     public ListElementPointer(List<String> list) {
-        this.list = new ArrayList<>(list);
-        index = this.list.size() - 1;
+        this(list, "");
     }
 
     /**
-     * Appends {@code element} to the end of the list.
+     * Constructs {@code ListElementPointer} which is backed by {@code list} like {@link #ListElementPointer(List)},
+     * but only points to the elements of {@code list} that start with {@code prefix}.
+     * The cursor points to the last such element, or before the first element if there is none.
+     */
+    public ListElementPointer(List<String> list, String prefix) {
+        this.list = list;
+        this.listSize = list.size();
+        this.prefix = prefix;
+        index = findPrevious(listSize);
+    }
+
+    /**
+     * Appends {@code element} to the end of the elements pointed to, leaving the backing list unchanged.
+     * The pointer can point to {@code element} whatever its prefix.
      */
     public void add(String element) {
-        list.add(element);
+        addedElements.add(element);
     }
 
     /**
      * Returns true if calling {@code #next()} does not throw an {@code NoSuchElementException}.
      */
     public boolean hasNext() {
-        int nextIndex = index + 1;
-        return isWithinBounds(nextIndex);
+        return isWithinBounds(findNext(index));
     }
 
     /**
      * Returns true if calling {@code #previous()} does not throw an {@code NoSuchElementException}.
      */
     public boolean hasPrevious() {
-        int previousIndex = index - 1;
-        return isWithinBounds(previousIndex);
+        return isWithinBounds(findPrevious(index));
     }
 
     /**
@@ -56,7 +70,45 @@ public class ListElementPointer {
     }
 
     private boolean isWithinBounds(int index) {
-        return index >= 0 && index < list.size();
+        return index >= 0 && index < size();
+    }
+
+    private int size() {
+        return listSize + addedElements.size();
+    }
+
+    private String get(int index) {
+        return index < listSize ? list.get(index) : addedElements.get(index - listSize);
+    }
+
+    /**
+     * Returns true if the element at {@code index} can be pointed to.
+     */
+    private boolean isPointable(int index) {
+        return index >= listSize || list.get(index).startsWith(prefix);
+    }
+
+    /**
+     * Returns the index of the first element after {@code index} that can be pointed to, or the size of the list
+     * if there is none.
+     */
+    private int findNext(int index) {
+        int nextIndex = index + 1;
+        while (nextIndex < size() && !isPointable(nextIndex)) {
+            nextIndex++;
+        }
+        return nextIndex;
+    }
+
+    /**
+     * Returns the index of the last element before {@code index} that can be pointed to, or -1 if there is none.
+     */
+    private int findPrevious(int index) {
+        int previousIndex = index - 1;
+        while (previousIndex >= 0 && !isPointable(previousIndex)) {
+            previousIndex--;
+        }
+        return previousIndex;
     }
 
     /**
@@ -67,7 +119,8 @@ public class ListElementPointer {
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
-        return list.get(++index);
+        index = findNext(index);
+        return get(index);
     }
 
     /**
@@ -78,7 +131,8 @@ public class ListElementPointer {
         if (!hasPrevious()) {
             throw new NoSuchElementException();
         }
-        return list.get(--index);
+        index = findPrevious(index);
+        return get(index);
     }
 
     /**
@@ -89,7 +143,7 @@ public class ListElementPointer {
         if (!hasCurrent()) {
             throw new NoSuchElementException();
         }
-        return list.get(index);
+        return get(index);
     }
 
     @Override
@@ -106,6 +160,9 @@ public class ListElementPointer {
 
         // state check
         ListElementPointer iterator = (ListElementPointer) other;
-        return list.equals(iterator.list) && index == iterator.index;
+        return list.subList(0, listSize).equals(iterator.list.subList(0, iterator.listSize))
+                && addedElements.equals(iterator.addedElements)
+                && prefix.equals(iterator.prefix)
+                && index == iterator.index;
     }
 }
@@ -1,7 +1,11 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.beans.value.ObservableValue;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,10 +16,12 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandExecutionService;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.flashcard.Flashcard;
 
 
 /**
@@ -24,12 +30,16 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_COMMANDS_CANCELLED = "%1$d queued command(s) cancelled";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "The command failed unexpectedly: %1$s";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandExecutionService commandExecutionService;
 
     // Independent Ui parts residing in this Ui container
     //private BrowserPanel browserPanel;
@@ -72,6 +82,7 @@ public class MainWindow extends UiPart<Stage> {
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandExecutionService = new CommandExecutionService(logic, Platform::runLater);
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -121,6 +132,8 @@ public class MainWindow extends UiPart<Stage> {
 
     /**
      * Fills up all the placeholders of this window.
+     * The model is changed on the command execution thread, so the UI parts are given mirrors of its lists and
+     * properties that change on the JavaFX application thread, and change the model through the same thread.
      */
     void fillInnerParts() {
         // right panel
@@ -131,29 +144,34 @@ public class MainWindow extends UiPart<Stage> {
         //contentPanelPlaceholder.getChildren().add(rightPanel.getRoot());
 
         // right panel - topic & content
-        rightPanel = new RightPanel(logic.selectedFlashcardProperty());
+        ObservableValue<Flashcard> selectedFlashcard =
+                commandExecutionService.mirror(logic.selectedFlashcardProperty());
+        rightPanel = new RightPanel(selectedFlashcard);
         rightMostPlaceholder.getChildren().add(rightPanel.getRoot());
 
         topicIsShowing = true;
 
         // left panel - subject
-        subjectListPanel = new SubjectListPanel(logic.getFilteredSubjectList(), logic.selectedSubjectProperty(),
-                logic::setSelectedSubject);
+        subjectListPanel = new SubjectListPanel(commandExecutionService.mirror(logic.getFilteredSubjectList()),
+                commandExecutionService.mirror(logic.selectedSubjectProperty()), subject ->
+                        commandExecutionService.submitUpdate(() -> logic.setSelectedSubject(subject)));
         flashcardListPanelPlaceholder.getChildren().add(subjectListPanel.getRoot());
 
         // middle panel - flashcards
-        flashcardListPanel = new FlashcardListPanel(logic.getFilteredFlashcardList(), logic.selectedSubjectProperty(),
-                logic.selectedFlashcardProperty(), logic::setSelectedFlashcard);
+        flashcardListPanel = new FlashcardListPanel(commandExecutionService.mirror(logic.getUpdatedFlashcardList()),
+                selectedFlashcard, flashcard ->
+                        commandExecutionService.submitUpdate(() -> logic.setSelectedFlashcard(flashcard)));
         cardPlaceholder.getChildren().add(flashcardListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getFlashBookFilePath(), logic.getFlashBook(),
-                logic.getFilteredFlashcardList().size());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getFlashBookFilePath(),
+                logic.getFilteredFlashcardList().size(), commandExecutionService.pendingCommandCountProperty());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand, logic.getHistory());
+        CommandBox commandBox = new CommandBox(this::executeCommand, this::cancelQueuedCommands,
+                commandExecutionService.historyProperty());
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -185,6 +203,13 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
+    /**
+     * Stops executing commands once the command being executed, if any, completes.
+     */
+    void stop() {
+        commandExecutionService.shutdown();
+    }
+
     /**
      * Closes the application.
      */
@@ -231,13 +256,26 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background and returns its result, completed on the JavaFX application thread.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return commandExecutionService.submit(commandText).whenComplete((commandResult, error) -> {
+            if (error instanceof CommandException || error instanceof ParseException) {
+                logger.info("Invalid command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                return;
+            }
+            if (error instanceof CancellationException) {
+                return;
+            }
+            if (error != null) {
+                // already logged in full by the service
+                resultDisplay.setFeedbackToUser(String.format(MESSAGE_UNEXPECTED_ERROR, error));
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -248,12 +286,16 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
+        });
+    }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+    /**
+     * Cancels the commands that are waiting for the command being executed to complete.
+     */
+    private void cancelQueuedCommands() {
+        int cancelledCount = commandExecutionService.cancelQueuedCommands();
+        if (cancelledCount > 0) {
+            resultDisplay.setFeedbackToUser(String.format(MESSAGE_COMMANDS_CANCELLED, cancelledCount));
         }
     }
 }
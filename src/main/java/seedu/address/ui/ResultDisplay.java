@@ -2,15 +2,22 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.eventbus.Subscribe;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.TextArea;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.HandledOn;
+import seedu.address.commons.events.ui.ImportProgressEvent;
 
 /**
  * A ui for the status bar that is displayed at the header of the application.
  */
+@HandledOn(HandledOn.Dispatcher.FX_APPLICATION_THREAD)
 public class ResultDisplay extends UiPart<Region> {
 
+    public static final String IMPORT_PROGRESS_MESSAGE = "Importing %1$s: %2$,d lines read";
+
     private static final String FXML = "ResultDisplay.fxml";
 
     @FXML
@@ -18,6 +25,7 @@ public class ResultDisplay extends UiPart<Region> {
 
     public ResultDisplay() {
         super(FXML);
+        registerAsAnEventHandler(this);
     }
 
     public void setFeedbackToUser(String feedbackToUser) {
@@ -25,4 +33,9 @@ public class ResultDisplay extends UiPart<Region> {
         resultDisplay.setText(feedbackToUser);
     }
 
+    @Subscribe
+    private void handleImportProgressEvent(ImportProgressEvent event) {
+        resultDisplay.setText(String.format(IMPORT_PROGRESS_MESSAGE, event.filePath, event.linesRead));
+    }
+
 }
@@ -105,7 +105,7 @@ public class RightPanel extends UiPart<Region> {
     private void loadFlashcardPage(Flashcard flashcard) {
         //loadPage(SEARCH_PAGE_URL + flashcard.getTopic().fullTopic);
         selectedFlashcardTopic.setText(flashcard.getTopic().toString());
-        selectedFlashcardContent.setText(flashcard.getContent().toString());
+        selectedFlashcardContent.setText(flashcard.getContent().getValue());
         selectedFlashcardTopic.setVisible(true);
         selectedFlashcardContent.setVisible(false);
         welcomeMessage.setVisible(false);
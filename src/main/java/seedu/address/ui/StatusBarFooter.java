@@ -8,25 +8,30 @@ import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
-import javafx.application.Platform;
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.HandledOn;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.FlashBookChangedEvent;
+import seedu.address.commons.events.ui.ImportProgressEvent;
 import seedu.address.logic.Logic;
-import seedu.address.model.ReadOnlyFlashBook;
 
 
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
  */
+@HandledOn(HandledOn.Dispatcher.FX_APPLICATION_THREAD)
 public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String TOTAL_FLASHCARDS_STATUS = "%d flashcard(s) total";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String SYNC_STATUS_IMPORTING = "Importing: %,d lines read";
+    public static final String BUSY_STATUS_RUNNING = "Running command";
+    public static final String BUSY_STATUS_QUEUED = "Running command, %d queued (Esc to cancel)";
 
     private static final Logger logger = LogsCenter.getLogger(StatusBarFooter.class);
 
@@ -53,14 +58,21 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label totalFlashcardsStatus;
 
+    @FXML
+    private Label busyStatus;
 
-
-    public StatusBarFooter(Path saveLocation, ReadOnlyFlashBook flashBook, int totalFlashcards) {
+    /**
+     * Creates a status bar for the flash book saved at {@code saveLocation}, which shows that commands are running
+     * while {@code pendingCommandCount} is above zero. {@code pendingCommandCount} must only change on the JavaFX
+     * application thread. The status is updated by the {@code FlashBookChangedEvent}s handled on that thread.
+     */
+    public StatusBarFooter(Path saveLocation, int totalFlashcards, ObservableValue<Number> pendingCommandCount) {
         super(FXML);
-        flashBook.addListener(observable -> updateSyncStatus());
         syncStatus.setText(SYNC_STATUS_INITIAL);
         setTotalFlashcards(totalFlashcards);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        pendingCommandCount.addListener((observable, oldValue, newValue) -> updateBusyStatus(newValue.intValue()));
+        updateBusyStatus(pendingCommandCount.getValue().intValue());
         registerAsAnEventHandler(this);
     }
 
@@ -69,7 +81,7 @@ public class StatusBarFooter extends UiPart<Region> {
     }
 
     private void setTotalFlashcards(int totalFlashcards) {
-        Platform.runLater(() -> totalFlashcardsStatus.setText(String.format(TOTAL_FLASHCARDS_STATUS, totalFlashcards)));
+        totalFlashcardsStatus.setText(String.format(TOTAL_FLASHCARDS_STATUS, totalFlashcards));
     }
 
     /**
@@ -92,16 +104,31 @@ public class StatusBarFooter extends UiPart<Region> {
     private void updateSyncStatus() {
         long now = clock.millis();
         String lastUpdated = new Date(now).toString();
-        Platform.runLater(() -> syncStatus.setText(String.format(SYNC_STATUS_UPDATED, lastUpdated)));
+        syncStatus.setText(String.format(SYNC_STATUS_UPDATED, lastUpdated));
+    }
+
+    /**
+     * Shows the busy indicator if {@code pendingCommandCount} commands are running or queued, or hides it if none.
+     */
+    private void updateBusyStatus(int pendingCommandCount) {
+        busyStatus.setVisible(pendingCommandCount > 0);
+        busyStatus.setText(pendingCommandCount > 1
+                ? String.format(BUSY_STATUS_QUEUED, pendingCommandCount - 1)
+                : BUSY_STATUS_RUNNING);
     }
 
     @Subscribe
     public void handleFlashBookChangedEvent(FlashBookChangedEvent abce) {
         long now = clock.millis();
         String lastUpdated = new Date(now).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
         updateSyncStatus();
-        setTotalFlashcards(abce.data.getFlashcardList().size());
+        setTotalFlashcards(abce.flashcardCount);
+    }
+
+    @Subscribe
+    public void handleImportProgressEvent(ImportProgressEvent event) {
+        syncStatus.setText(String.format(SYNC_STATUS_IMPORTING, event.linesRead));
     }
 
 }
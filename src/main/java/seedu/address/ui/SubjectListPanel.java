@@ -27,6 +27,9 @@ public class SubjectListPanel extends UiPart<Region> {
 
     private ObservableValue<SubjectTag> s;
 
+    /** True while the selection follows the selected subject, which need not be told of its own change. */
+    private boolean isFollowingSelectedSubject;
+
     public SubjectListPanel(ObservableList<SubjectTag> subjectList, ObservableValue<SubjectTag> selectedSubject,
                               Consumer<SubjectTag> onSelectedSubjectBookChange) {
         super(FXML);
@@ -35,7 +38,9 @@ public class SubjectListPanel extends UiPart<Region> {
         subjectListView.setCellFactory(listView -> new SubjectTagListViewCell());
         subjectListView.getSelectionModel().selectedItemProperty().addListener((observable, oldValue, newValue) -> {
             logger.fine("Selection in subject list panel changed to : '" + newValue + "'");
-            onSelectedSubjectBookChange.accept(newValue);
+            if (!isFollowingSelectedSubject) {
+                onSelectedSubjectBookChange.accept(newValue);
+            }
         });
         selectedSubject.addListener((observable, oldValue, newValue) -> {
             logger.fine("Selected subject changed to: " + newValue);
@@ -46,6 +51,7 @@ public class SubjectListPanel extends UiPart<Region> {
                 return;
             }
 
+            isFollowingSelectedSubject = true;
             if (newValue == null) {
                 subjectListView.getSelectionModel().clearSelection();
             } else {
@@ -54,6 +60,7 @@ public class SubjectListPanel extends UiPart<Region> {
                 subjectListView.getSelectionModel().clearAndSelect(index);
                 new SelectSubjectCommand(newValue, newValue.toString().split("\\s+"));
             }
+            isFollowingSelectedSubject = false;
         });
     }
 
@@ -2,23 +2,33 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import com.google.common.eventbus.Subscribe;
+
 import javafx.application.Platform;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.address.MainApp;
+import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.HandledOn;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 
 /**
  * The manager of the UI component.
  */
-public class UiManager implements Ui {
+@HandledOn(HandledOn.Dispatcher.FX_APPLICATION_THREAD)
+public class UiManager extends ComponentManager implements Ui {
 
     public static final String ALERT_DIALOG_PANE_FIELD_ID = "alertDialogPane";
 
+    public static final String FILE_OPS_ERROR_DIALOG_STAGE_TITLE = "File Op Error";
+    public static final String FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE = "Could not save data";
+    public static final String FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE = "Could not save data to file";
+
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
@@ -48,6 +58,13 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void stop() {
+        if (mainWindow != null) {
+            mainWindow.stop();
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -72,6 +89,11 @@ public class UiManager implements Ui {
         alert.showAndWait();
     }
 
+    private void showFileOperationAlertAndWait(String description, String details, Throwable cause) {
+        final String content = details + ":\n" + cause.toString();
+        showAlertDialogAndWait(AlertType.ERROR, FILE_OPS_ERROR_DIALOG_STAGE_TITLE, description, content);
+    }
+
     /**
      * Shows an error alert dialog with {@code title} and error message, {@code e},
      * and exits the application after the user has closed the alert dialog.
@@ -83,4 +105,18 @@ public class UiManager implements Ui {
         System.exit(1);
     }
 
+    //==================== Event Handling Code ===============================================================
+
+    /**
+     * Alerts the user that the flash book could not be saved.
+     * Saving happens in the background, so this is handled on the JavaFX application thread.
+     */
+    @Subscribe
+    private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
+        if (mainWindow != null) {
+            showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE,
+                    FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE, event.exception);
+        }
+    }
 }
@@ -12,10 +12,12 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
     private static final String SYNC_STATUS_ID = "#syncStatus";
     private static final String SAVE_LOCATION_STATUS_ID = "#saveLocationStatus";
     private static final String TOTAL_FLASHCARDS_STATUS_ID = "#totalFlashcardsStatus";
+    private static final String BUSY_STATUS_ID = "#busyStatus";
 
     private final Labeled syncStatusNode;
     private final Labeled totalFlashcardsStatusNode;
     private final Labeled saveLocationNode;
+    private final Labeled busyStatusNode;
 
     private String lastRememberedSyncStatus;
     private String lastRememberedSaveLocation;
@@ -27,6 +29,14 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
         syncStatusNode = getChildNode(SYNC_STATUS_ID);
         saveLocationNode = getChildNode(SAVE_LOCATION_STATUS_ID);
         totalFlashcardsStatusNode = getChildNode(TOTAL_FLASHCARDS_STATUS_ID);
+        busyStatusNode = getChildNode(BUSY_STATUS_ID);
+    }
+
+    /**
+     * Returns true if the status bar shows that commands are running.
+     */
+    public boolean isBusy() {
+        return busyStatusNode.isVisible();
     }
 
     /**
@@ -37,6 +37,30 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_batchParameters_success() {
+        parametersStub.namedParameters.put("batch", "commands.txt");
+        parametersStub.namedParameters.put("checkpoint", "100");
+        expected.setBatchScriptPath("commands.txt");
+        expected.setCheckpointInterval(100);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidCheckpointInterval_savedOnlyAtEnd() {
+        parametersStub.namedParameters.put("batch", AppParameters.STANDARD_INPUT);
+        parametersStub.namedParameters.put("checkpoint", "often");
+        expected.setBatchScriptPath(AppParameters.STANDARD_INPUT);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_commandLineArguments_namedParametersParsed() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setBatchScriptPath(AppParameters.STANDARD_INPUT);
+        assertEquals(expected, AppParameters.parse(new String[] {"--config=config.json", "--batch=-", "unnamed"}));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
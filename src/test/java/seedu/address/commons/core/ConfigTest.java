@@ -4,6 +4,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.file.Paths;
+import java.util.logging.Level;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -27,5 +30,28 @@ public class ConfigTest {
         assertTrue(defaultConfig.equals(defaultConfig));
     }
 
+    @Test
+    public void copyConstructor_copiesAllValues() {
+        Config config = new Config();
+        config.setLogLevel(Level.FINE);
+        config.setUserPrefsFilePath(Paths.get("custom.json"));
+        config.setFlashBookJournaled(true);
+        config.setFlashBookBackedUp(false);
+        config.setUndoHistoryDepth(5);
+        config.setUndoHistoryFlashcardLimit(1000);
+
+        Config copy = new Config(config);
+        assertEquals(config, copy);
+
+        // later changes to the original are not copied
+        config.setLogLevel(Level.WARNING);
+        assertEquals(Level.FINE, copy.getLogLevel());
+    }
+
+    @Test
+    public void setUndoHistoryDepth_negative_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new Config().setUndoHistoryDepth(-1);
+    }
 
 }
@@ -0,0 +1,241 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.HandledOn.Dispatcher;
+import seedu.address.commons.events.BaseEvent;
+
+public class EventsCenterTest {
+
+    private static final int EVENT_COUNT = 1000;
+
+    private final ExecutorService fxApplicationThreadExecutor = Executors.newSingleThreadExecutor();
+    private final EventsCenter eventsCenter = new EventsCenter(fxApplicationThreadExecutor);
+
+    @After
+    public void tearDown() {
+        fxApplicationThreadExecutor.shutdownNow();
+    }
+
+    @Test
+    public void post_callerHandler_handledOnPostingThreadBeforePostReturns() {
+        CallerHandler handler = new CallerHandler();
+        eventsCenter.registerHandler(handler);
+
+        eventsCenter.post(new FirstEvent(1));
+        assertEquals(Collections.singletonList("first 1"), handler.received);
+        assertSame(Thread.currentThread(), handler.getLastThread());
+    }
+
+    @Test
+    public void post_fxApplicationThreadHandler_handledOnItsThread() throws Exception {
+        FxApplicationThreadHandler fxHandler = new FxApplicationThreadHandler();
+        eventsCenter.registerHandler(fxHandler);
+
+        eventsCenter.post(new FirstEvent(1));
+        awaitAsynchronousHandlers();
+
+        assertEquals(Collections.singletonList("first 1"), fxHandler.received);
+        assertNotSame(Thread.currentThread(), fxHandler.getLastThread());
+    }
+
+    @Test
+    public void post_manyEventsOfEachType_eachHandlerReceivesThemInPostingOrder() throws Exception {
+        List<RecordingHandler> handlers = new ArrayList<>();
+        handlers.add(new CallerHandler());
+        handlers.add(new FxApplicationThreadHandler());
+        handlers.forEach(eventsCenter::registerHandler);
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            eventsCenter.post(new FirstEvent(i));
+            expected.add("first " + i);
+            if (i % 3 == 0) {
+                eventsCenter.post(new SecondEvent(i));
+                expected.add("second " + i);
+            }
+        }
+        awaitAsynchronousHandlers();
+
+        for (RecordingHandler handler : handlers) {
+            assertEquals(handler.getClass().getSimpleName(), expected, handler.received);
+        }
+    }
+
+    @Test
+    public void post_eventPostedByHandler_receivedAfterEventBeingHandled() throws Exception {
+        FxApplicationThreadHandler fxHandler = new FxApplicationThreadHandler();
+        CallerHandler callerHandler = new CallerHandler();
+        eventsCenter.registerHandler(fxHandler);
+        eventsCenter.registerHandler(new ReplyingHandler(eventsCenter));
+        eventsCenter.registerHandler(callerHandler);
+
+        eventsCenter.post(new FirstEvent(1));
+        awaitAsynchronousHandlers();
+
+        List<String> expected = new ArrayList<>();
+        expected.add("first 1");
+        expected.add("second 1");
+        assertEquals(expected, callerHandler.received);
+        assertEquals(expected, fxHandler.received);
+    }
+
+    @Test
+    public void post_manyPostingThreads_eachThreadsEventsReceivedInPostingOrder() throws Exception {
+        FxApplicationThreadHandler handler = new FxApplicationThreadHandler();
+        eventsCenter.registerHandler(handler);
+
+        ExecutorService postingThreads = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            int offset = thread * EVENT_COUNT;
+            postingThreads.execute(() -> IntStream.range(offset, offset + EVENT_COUNT)
+                    .forEach(i -> eventsCenter.post(new FirstEvent(i))));
+        }
+        postingThreads.shutdown();
+        assertTrue(postingThreads.awaitTermination(10, TimeUnit.SECONDS));
+        awaitAsynchronousHandlers();
+
+        assertEquals(4 * EVENT_COUNT, handler.received.size());
+        for (int thread = 0; thread < 4; thread++) {
+            int offset = thread * EVENT_COUNT;
+            List<String> receivedFromThread = handler.received.stream()
+                    .filter(event -> {
+                        int number = Integer.parseInt(event.substring("first ".length()));
+                        return number >= offset && number < offset + EVENT_COUNT;
+                    })
+                    .collect(Collectors.toList());
+            List<String> postedByThread = IntStream.range(offset, offset + EVENT_COUNT)
+                    .mapToObj(i -> "first " + i)
+                    .collect(Collectors.toList());
+            assertEquals(postedByThread, receivedFromThread);
+        }
+    }
+
+    @Test
+    public void post_infoNotLogged_eventNotFormatted() {
+        Logger logger = LogsCenter.getLogger(EventsCenter.class);
+        Level originalLevel = logger.getLevel();
+        logger.setLevel(Level.WARNING);
+        try {
+            AtomicInteger formatCount = new AtomicInteger();
+            eventsCenter.post(new BaseEvent() {
+                @Override
+                public String toString() {
+                    formatCount.incrementAndGet();
+                    return "formatted";
+                }
+            });
+            assertEquals(0, formatCount.get());
+        } finally {
+            logger.setLevel(originalLevel);
+        }
+    }
+
+    /**
+     * Waits until the asynchronous handlers have handled every event posted so far.
+     */
+    private void awaitAsynchronousHandlers() throws Exception {
+        fxApplicationThreadExecutor.submit(() -> { }).get(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * An event numbered so that its order can be checked.
+     */
+    private static class FirstEvent extends BaseEvent {
+        private final int number;
+
+        FirstEvent(int number) {
+            this.number = number;
+        }
+
+        @Override
+        public String toString() {
+            return "first " + number;
+        }
+    }
+
+    /**
+     * A second type of numbered event.
+     */
+    private static class SecondEvent extends BaseEvent {
+        private final int number;
+
+        SecondEvent(int number) {
+            this.number = number;
+        }
+
+        @Override
+        public String toString() {
+            return "second " + number;
+        }
+    }
+
+    /**
+     * Records the events it handles, and the thread it last handled one on.
+     */
+    private abstract static class RecordingHandler {
+        final List<String> received = Collections.synchronizedList(new ArrayList<>());
+        private volatile Thread lastThread;
+
+        @Subscribe
+        public void handleFirstEvent(FirstEvent event) {
+            record(event);
+        }
+
+        @Subscribe
+        public void handleSecondEvent(SecondEvent event) {
+            record(event);
+        }
+
+        Thread getLastThread() {
+            return lastThread;
+        }
+
+        private void record(BaseEvent event) {
+            received.add(event.toString());
+            lastThread = Thread.currentThread();
+        }
+    }
+
+    private static class CallerHandler extends RecordingHandler {}
+
+    @HandledOn(Dispatcher.FX_APPLICATION_THREAD)
+    private static class FxApplicationThreadHandler extends RecordingHandler {}
+
+    /**
+     * Posts a {@code SecondEvent} for each {@code FirstEvent} it handles.
+     */
+    private static class ReplyingHandler {
+        private final EventsCenter eventsCenter;
+
+        ReplyingHandler(EventsCenter eventsCenter) {
+            this.eventsCenter = eventsCenter;
+        }
+
+        @Subscribe
+        public void handleFirstEvent(FirstEvent event) {
+            eventsCenter.post(new SecondEvent(event.number));
+        }
+    }
+
+}
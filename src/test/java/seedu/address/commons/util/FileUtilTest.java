@@ -1,14 +1,30 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.address.testutil.Assert;
 
 public class FileUtilTest {
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     @Test
     public void isValidPath() {
         // valid path
@@ -21,4 +37,79 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingParentDirectories_fileCreated() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("missing").resolve("file.txt");
+        FileUtil.writeToFile(file, "contents");
+        assertEquals("contents", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFileIfChanged() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("file.txt");
+
+        // missing file -> written
+        assertTrue(FileUtil.writeToFileIfChanged(file, "contents"));
+        assertEquals("contents", FileUtil.readFromFile(file));
+
+        // same contents -> not written
+        assertTrue(file.toFile().setLastModified(0));
+        assertFalse(FileUtil.writeToFileIfChanged(file, "contents"));
+        assertEquals(0, file.toFile().lastModified());
+
+        // different contents of the same length -> written
+        assertTrue(FileUtil.writeToFileIfChanged(file, "CONTENTS"));
+        assertEquals("CONTENTS", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomically_existingFile_replacedAndBackedUp() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("file.txt");
+        Path backupFile = testFolder.getRoot().toPath().resolve("file.txt.bak");
+
+        // no previous generation -> no backup
+        FileUtil.writeAtomically(file, out -> out.write(new byte[] {1}), backupFile);
+        assertFalse(Files.exists(backupFile));
+
+        FileUtil.writeAtomically(file, out -> out.write(new byte[] {2}), backupFile);
+        assertArrayEquals(new byte[] {2}, Files.readAllBytes(file));
+        assertArrayEquals(new byte[] {1}, Files.readAllBytes(backupFile));
+
+        // backup rotated to the previous generation
+        FileUtil.writeAtomically(file, out -> out.write(new byte[] {3}), backupFile);
+        assertArrayEquals(new byte[] {3}, Files.readAllBytes(file));
+        assertArrayEquals(new byte[] {2}, Files.readAllBytes(backupFile));
+
+        // only the file and its backup are left behind
+        assertEquals(2, testFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("file.txt");
+        FileUtil.writeToFile(file, "contents");
+
+        Assert.assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write(new byte[] {1, 2, 3});
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("contents", FileUtil.readFromFile(file));
+        assertEquals(1, testFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void writeAtomically_existingFile_permissionsKept() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("file.txt");
+        FileUtil.writeToFile(file, "contents");
+        assumeTrue(Files.getFileAttributeView(file, PosixFileAttributeView.class) != null);
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(file, permissions);
+
+        FileUtil.writeToFile(file, "new contents");
+
+        assertEquals("new contents", FileUtil.readFromFile(file));
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
 }
@@ -0,0 +1,77 @@
+package seedu.address.commons.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Compares the time taken to find the topics that contain any of a few keywords, among topics of increasing numbers,
+ * with {@link StringUtil#containsWordIgnoreCase} for each keyword, as the find predicates used to, and with a
+ * {@link WordMatcher} over topics split once up front, as a {@code Topic} does. This is not a test; run its
+ * {@code main} method by hand.
+ */
+public class WordMatcherBenchmark {
+
+    private static final int[] TOPIC_COUNTS = {10_000, 100_000, 1_000_000};
+    private static final List<List<String>> KEYWORD_LISTS = Arrays.asList(
+            Arrays.asList("Topic"),
+            Arrays.asList("alpha", "Gamma", "EPSILON", "theta", "lambda"));
+    private static final String[] TOPIC_WORDS = {"Alpha", "beta", "Gamma", "delta", "Epsilon", "zeta", "Eta", "theta"};
+    private static final int WARM_UP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) {
+        for (int count : TOPIC_COUNTS) {
+            List<String> topics = createTopics(count);
+            List<List<String>> splitTopics = new ArrayList<>();
+            topics.forEach(topic -> splitTopics.add(WordMatcher.splitWords(topic)));
+
+            for (List<String> keywords : KEYWORD_LISTS) {
+                run("containsWordIgnoreCase", topics, keywords, topic -> keywords.stream()
+                        .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(topic, keyword)));
+                WordMatcher matcher = new WordMatcher(keywords);
+                run("WordMatcher", splitTopics, keywords, matcher::matchesAny);
+            }
+        }
+    }
+
+    /**
+     * Prints the best time taken by {@code predicate} to test every one of {@code topics}, and how many matched.
+     */
+    private static <T> void run(String name, List<T> topics, List<String> keywords, Predicate<T> predicate) {
+        long bestNanos = Long.MAX_VALUE;
+        int matchCount = 0;
+        for (int i = 0; i < WARM_UP_RUNS + MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            matchCount = 0;
+            for (T topic : topics) {
+                if (predicate.test(topic)) {
+                    matchCount++;
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            if (i >= WARM_UP_RUNS) {
+                bestNanos = Math.min(bestNanos, elapsed);
+            }
+        }
+        System.out.printf("%-24s %,10d topics, %d keyword(s): %,8.1f ms, %,10d matches%n",
+                name, topics.size(), keywords.size(), bestNanos / 1e6, matchCount);
+    }
+
+    /**
+     * Returns {@code count} topics of a few words each, which only some of the keywords appear in.
+     */
+    private static List<String> createTopics(int count) {
+        List<String> topics = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            topics.add("Topic " + i + " " + TOPIC_WORDS[i % TOPIC_WORDS.length] + " "
+                    + TOPIC_WORDS[i / TOPIC_WORDS.length % TOPIC_WORDS.length] + " of the week");
+        }
+        return topics;
+    }
+
+}
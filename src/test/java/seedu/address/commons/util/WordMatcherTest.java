@@ -0,0 +1,79 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class WordMatcherTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_emptyKeyword_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Word parameter cannot be empty");
+        new WordMatcher(Collections.singletonList("  "));
+    }
+
+    @Test
+    public void constructor_multipleWords_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Word parameter should be a single word");
+        new WordMatcher(Arrays.asList("aaa", "aaa bbb"));
+    }
+
+    @Test
+    public void splitWords() {
+        assertEquals(Collections.emptyList(), WordMatcher.splitWords("")); // Boundary case
+        assertEquals(Collections.emptyList(), WordMatcher.splitWords("    "));
+        assertEquals(Arrays.asList("aaa", "bbb", "ccc"), WordMatcher.splitWords("  AAA   bBb   ccc  "));
+    }
+
+    @Test
+    public void matches() {
+        WordMatcher matcher = new WordMatcher(Arrays.asList("  Bbb  ", "CCc@1"));
+
+        assertFalse(matcher.matches("bb")); // Word smaller than keyword
+        assertFalse(matcher.matches("bbbb")); // Word bigger than keyword
+        assertTrue(matcher.matches("bBB"));
+        assertTrue(matcher.matches("ccc@1"));
+        assertFalse(new WordMatcher(Collections.emptyList()).matches("aaa"));
+    }
+
+    @Test
+    public void matchesAny_sameResultAsContainsWordIgnoreCase() {
+        String[] sentences = {"", "    ", "aaa bbb ccc", "aaa bBb ccc@1", "  AAA   bBb   ccc  ", "Aaa", "bbbb"};
+        String[] keywords = {"aaa", "bb", "bbbb", "Bbb", "CCc@1", "  ccc  "};
+
+        for (String sentence : sentences) {
+            for (String keyword : keywords) {
+                assertEquals(StringUtil.containsWordIgnoreCase(sentence, keyword),
+                        new WordMatcher(Collections.singletonList(keyword)).matchesAny(
+                                WordMatcher.splitWords(sentence)));
+            }
+        }
+    }
+
+    @Test
+    public void equals() {
+        WordMatcher matcher = new WordMatcher(Arrays.asList("aaa", "bbb"));
+
+        // same keywords in a different case and order -> returns true
+        assertEquals(matcher, new WordMatcher(Arrays.asList("BBB", "aaa")));
+
+        // different keywords -> returns false
+        assertNotEquals(matcher, new WordMatcher(Collections.singletonList("aaa")));
+
+        // null -> returns false
+        assertFalse(matcher.equals(null));
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalFlashcards.getTypicalFlashBook;
+import static seedu.address.testutil.TypicalSubjects.getTypicalSubjectBook;
+
+import java.io.BufferedReader;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class BatchRunnerTest {
+
+    private final Model model = new ModelManager(getTypicalSubjectBook(), getTypicalFlashBook(), new UserPrefs());
+    private final Logic logic = new LogicManager(model);
+    private final StringWriter output = new StringWriter();
+    private int checkpointCount;
+
+    @Test
+    public void run_commandsAndFailures_allRunAndReported() throws Exception {
+        String script = "# comment\n"
+                + ListCommand.COMMAND_WORD + "\n"
+                + "\n"
+                + "uicfhmowqewca\n"
+                + "  " + ClearCommand.COMMAND_WORD + "  \n";
+        BatchRunner.Report report = run(new BatchRunner(logic, 0, this::checkpoint), script);
+
+        assertEquals(3, report.getCommandCount());
+        assertEquals(1, report.getFailureCount());
+        assertEquals(0, model.getFilteredFlashcardList().size());
+        assertEquals(1, checkpointCount);
+
+        String[] lines = output.toString().split(System.lineSeparator());
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("line 2: " + BatchRunner.RESULT_SUCCESS));
+        assertTrue(lines[1].startsWith("line 4: " + BatchRunner.RESULT_FAILURE));
+        assertTrue(lines[2].startsWith("line 5: " + BatchRunner.RESULT_SUCCESS));
+        assertTrue(lines[2].endsWith(ClearCommand.COMMAND_WORD + " -> " + ClearCommand.MESSAGE_SUCCESS));
+    }
+
+    @Test
+    public void run_checkpointInterval_checkpointsAfterIntervalAndAtEnd() throws Exception {
+        String script = ListCommand.COMMAND_WORD + "\n" + ListCommand.COMMAND_WORD + "\n"
+                + ListCommand.COMMAND_WORD + "\n" + ListCommand.COMMAND_WORD + "\n" + ListCommand.COMMAND_WORD + "\n";
+        BatchRunner.Report report = run(new BatchRunner(logic, 2, this::checkpoint), script);
+
+        assertEquals(5, report.getCommandCount());
+        assertEquals(3, checkpointCount);
+    }
+
+    @Test
+    public void run_unexpectedFailure_reportedAndScriptContinued() throws Exception {
+        Logic failingLogic = new LogicManager(model) {
+            @Override
+            public CommandResult execute(String commandText) throws CommandException, ParseException {
+                if (commandText.equals(ClearCommand.COMMAND_WORD)) {
+                    throw new IllegalStateException("unexpected");
+                }
+                return super.execute(commandText);
+            }
+        };
+        String script = ClearCommand.COMMAND_WORD + "\n" + ListCommand.COMMAND_WORD + "\n";
+        BatchRunner.Report report = run(new BatchRunner(failingLogic, 0, this::checkpoint), script);
+
+        assertEquals(2, report.getCommandCount());
+        assertEquals(1, report.getFailureCount());
+        assertEquals(1, checkpointCount);
+        String[] lines = output.toString().split(System.lineSeparator());
+        assertTrue(lines[0].startsWith("line 1: " + BatchRunner.RESULT_FAILURE));
+        assertTrue(lines[1].startsWith("line 2: " + BatchRunner.RESULT_SUCCESS));
+    }
+
+    @Test
+    public void run_exitCommand_scriptStoppedAfterExit() throws Exception {
+        String script = ListCommand.COMMAND_WORD + "\n" + ExitCommand.COMMAND_WORD + "\n"
+                + ClearCommand.COMMAND_WORD + "\n";
+        BatchRunner.Report report = run(new BatchRunner(logic, 0, this::checkpoint), script);
+
+        assertEquals(2, report.getCommandCount());
+        assertEquals(0, report.getFailureCount());
+        assertEquals(getTypicalFlashBook().getFlashcardList().size(), model.getFilteredFlashcardList().size());
+        assertEquals(1, checkpointCount);
+    }
+
+    @Test
+    public void run_emptyScript_emptyReport() throws Exception {
+        BatchRunner.Report report = run(new BatchRunner(logic, 0, this::checkpoint), "");
+
+        assertEquals(0, report.getCommandCount());
+        assertEquals(0, report.getLatencyPercentileNanos(50));
+        assertEquals(1, checkpointCount);
+    }
+
+    @Test
+    public void report_latencyPercentiles() {
+        BatchRunner.Report report = new BatchRunner.Report(new long[] {40, 10, 30, 20}, 0, 1000);
+
+        assertEquals(20, report.getLatencyPercentileNanos(50));
+        assertEquals(40, report.getLatencyPercentileNanos(90));
+        assertEquals(10, report.getLatencyPercentileNanos(0));
+        assertEquals(40, report.getLatencyPercentileNanos(100));
+        assertEquals(4e6, report.getThroughput(), 1e-6);
+    }
+
+    private BatchRunner.Report run(BatchRunner batchRunner, String script) throws Exception {
+        return batchRunner.run(new BufferedReader(new StringReader(script)), new PrintWriter(output, true));
+    }
+
+    private void checkpoint() {
+        checkpointCount++;
+    }
+
+}
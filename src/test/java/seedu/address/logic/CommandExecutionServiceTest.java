@@ -0,0 +1,165 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalFlashcards.getTypicalFlashBook;
+import static seedu.address.testutil.TypicalSubjects.getTypicalSubjectBook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.After;
+import org.junit.Test;
+
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.collections.ObservableList;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.SelectCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.flashcard.Flashcard;
+
+public class CommandExecutionServiceTest {
+
+    private final Model model = new ModelManager(getTypicalSubjectBook(), getTypicalFlashBook(), new UserPrefs());
+    private final Logic logic = new LogicManager(model);
+    private final Queue<Runnable> resultTasks = new ConcurrentLinkedQueue<>();
+    private final CommandExecutionService service = new CommandExecutionService(logic, resultTasks::add);
+
+    @After
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    public void submit_commands_completedOnResultThreadInOrder() throws Exception {
+        CompletableFuture<CommandResult> listResult = service.submit(ListCommand.COMMAND_WORD);
+        CompletableFuture<CommandResult> invalidResult = service.submit("uicfhmowqewca");
+        awaitWorker();
+
+        // not completed until the result thread runs
+        assertFalse(listResult.isDone());
+        assertFalse(invalidResult.isDone());
+        runResultTasks();
+
+        assertEquals(ListCommand.MESSAGE_SUCCESS, listResult.get().getFeedbackToUser());
+        assertTrue(getFailure(invalidResult) instanceof ParseException);
+        assertEquals(0, service.pendingCommandCountProperty().get());
+    }
+
+    @Test
+    public void mirror_modelChanged_changesAppliedOnResultThread() throws Exception {
+        ObservableList<Flashcard> flashcards = service.mirror(model.getFilteredFlashcardList());
+        ReadOnlyObjectProperty<Flashcard> selectedFlashcard = service.mirror(logic.selectedFlashcardProperty());
+        awaitWorker();
+        runResultTasks();
+        assertEquals(model.getFilteredFlashcardList(), flashcards);
+
+        service.submit(SelectCommand.COMMAND_WORD + " 2");
+        service.submit(DeleteCommand.COMMAND_WORD + " 1");
+        awaitWorker();
+        assertEquals(getTypicalFlashBook().getFlashcardList(), flashcards);
+        runResultTasks();
+        assertEquals(model.getFilteredFlashcardList(), flashcards);
+        assertEquals(model.getSelectedFlashcard(), selectedFlashcard.get());
+
+        service.submit(ClearCommand.COMMAND_WORD);
+        awaitWorker();
+        runResultTasks();
+        assertTrue(flashcards.isEmpty());
+    }
+
+    @Test
+    public void historyProperty_commandsCompleted_snapshotPublishedBeforeResult() throws Exception {
+        List<List<String>> historySeenByResults = new ArrayList<>();
+        service.submit(ListCommand.COMMAND_WORD)
+                .whenComplete((result, error) -> historySeenByResults.add(service.historyProperty().get()));
+        service.submit("uicfhmowqewca")
+                .whenComplete((result, error) -> historySeenByResults.add(service.historyProperty().get()));
+        awaitWorker();
+        assertTrue(service.historyProperty().get().isEmpty());
+        runResultTasks();
+
+        assertEquals(Arrays.asList(Arrays.asList(ListCommand.COMMAND_WORD),
+                Arrays.asList(ListCommand.COMMAND_WORD, "uicfhmowqewca")), historySeenByResults);
+    }
+
+    @Test
+    public void cancelQueuedCommands_commandRunning_onlyQueuedCommandsCancelled() throws Exception {
+        CountDownLatch commandRunning = new CountDownLatch(1);
+        CountDownLatch commandMayComplete = new CountDownLatch(1);
+        service.submitUpdate(() -> {
+            commandRunning.countDown();
+            await(commandMayComplete);
+        });
+        commandRunning.await();
+        CompletableFuture<CommandResult> clearResult = service.submit(ClearCommand.COMMAND_WORD);
+        CountDownLatch updateRun = new CountDownLatch(1);
+        service.submitUpdate(updateRun::countDown);
+
+        assertEquals(1, service.cancelQueuedCommands());
+        commandMayComplete.countDown();
+        updateRun.await();
+        awaitWorker();
+        runResultTasks();
+
+        assertTrue(clearResult.isCancelled());
+        assertEquals(getTypicalFlashBook().getFlashcardList(), new ArrayList<>(model.getFilteredFlashcardList()));
+        assertEquals(0, service.pendingCommandCountProperty().get());
+    }
+
+    /**
+     * Blocks until the tasks submitted to the worker thread so far have run.
+     */
+    private void awaitWorker() throws InterruptedException {
+        CountDownLatch workerIdle = new CountDownLatch(1);
+        service.submitUpdate(workerIdle::countDown);
+        workerIdle.await();
+    }
+
+    /**
+     * Runs the tasks submitted to the result thread so far, as the result thread would.
+     */
+    private void runResultTasks() {
+        Runnable task;
+        while ((task = resultTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    /**
+     * Blocks until {@code latch} counts down, failing the test if interrupted.
+     */
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Returns the exception that {@code future} failed with.
+     */
+    private static Throwable getFailure(CompletableFuture<?> future) throws InterruptedException {
+        try {
+            future.get();
+            throw new AssertionError("The command was expected to fail.");
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+    }
+
+}
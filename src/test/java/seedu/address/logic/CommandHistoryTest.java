@@ -36,6 +36,29 @@ public class CommandHistoryTest {
         assertEquals(Arrays.asList(validCommand, invalidCommand), history.getHistory());
     }
 
+    @Test
+    public void add_repeatedCommand_notAddedAgain() {
+        assertTrue(history.add("list"));
+        assertFalse(history.add("list"));
+        assertTrue(history.add("clear"));
+        assertTrue(history.add("list"));
+        assertEquals(Arrays.asList("list", "clear", "list"), history.getHistory());
+    }
+
+    @Test
+    public void add_historyFull_earliestCommandsDropped() {
+        CommandHistory boundedHistory = new CommandHistory(3);
+        for (int i = 1; i <= 5; i++) {
+            boundedHistory.add("select " + i);
+        }
+        assertEquals(Arrays.asList("select 3", "select 4", "select 5"), boundedHistory.getHistory());
+
+        // the capacity is kept by copies
+        CommandHistory copy = new CommandHistory(boundedHistory);
+        copy.add("select 6");
+        assertEquals(Arrays.asList("select 4", "select 5", "select 6"), copy.getHistory());
+    }
+
     @Test
     public void equals() {
         final CommandHistory commandHistoryWithA = new CommandHistory();
@@ -3,20 +3,11 @@ package seedu.address.logic;
 import static org.junit.Assert.assertEquals;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
-//import static seedu.address.logic.commands.CommandTestUtil.CONTENT_DESC_ENGLISH;
-//import static seedu.address.logic.commands.CommandTestUtil.DIFFICULTY_DESC_ENGLISH;
-//import static seedu.address.logic.commands.CommandTestUtil.TOPIC_DESC_ENGLISH;
-//import static seedu.address.testutil.TypicalFlashcards.ENGLISH;
-
-import java.io.IOException;
-import java.nio.file.Path;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
-import org.junit.rules.TemporaryFolder;
-//import seedu.address.logic.commands.AddCommand;
 
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.HistoryCommand;
@@ -25,33 +16,19 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyFlashBook;
 import seedu.address.model.UserPrefs;
-//import seedu.address.model.flashcard.Flashcard;
-import seedu.address.storage.JsonFlashBookStorage;
-import seedu.address.storage.JsonUserPrefsStorage;
-import seedu.address.storage.StorageManager;
-//import seedu.address.testutil.FlashcardBuilder;
 
 
 public class LogicManagerTest {
-    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
-
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
-    @Rule
-    public TemporaryFolder temporaryFolder = new TemporaryFolder();
-
     private Model model = new ModelManager();
     private Logic logic;
 
     @Before
-    public void setUp() throws Exception {
-        JsonFlashBookStorage addressBookStorage = new JsonFlashBookStorage(temporaryFolder.newFile().toPath());
-        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+    public void setUp() {
+        logic = new LogicManager(model);
     }
 
 
@@ -77,27 +54,6 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
-    /*@Test
-    public void execute_storageThrowsIoException_throwsCommandException() throws Exception {
-        // Setup LogicManager with JsonFlashBookIoExceptionThrowingStub
-        JsonFlashBookStorage addressBookStorage =
-                new JsonFlashBookIoExceptionThrowingStub(temporaryFolder.newFile().toPath());
-        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
-
-        // Execute add command
-        String addCommand = AddCommand.COMMAND_WORD + TOPIC_DESC_ENGLISH + DIFFICULTY_DESC_ENGLISH
-                + CONTENT_DESC_ENGLISH;
-        Flashcard expectedFlashcard = new FlashcardBuilder(ENGLISH).withTags("english").build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addFlashcard(expectedFlashcard);
-        expectedModel.commitFlashBook();
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandBehavior(CommandException.class, addCommand, expectedMessage, expectedModel);
-        assertHistoryCorrect(addCommand);
-    }*/
-
     @Test
     public void getFilteredFlashcardList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -149,9 +105,7 @@ public class LogicManagerTest {
 
     /**
      * Executes the command, confirms that the result message is correct and that the expected exception is thrown,
-     * and also confirms that the following two parts of the LogicManager object's state are as expected:<br>
-     *      - the internal model manager data are same as those in the {@code expectedModel} <br>
-     *      - {@code expectedModel}'s flash book was saved to the storage file.
+     * and also confirms that the internal model manager data are same as those in the {@code expectedModel}.
      */
     private void assertCommandBehavior(Class<?> expectedException, String inputCommand,
                                            String expectedMessage, Model expectedModel) {
@@ -184,20 +138,4 @@ public class LogicManagerTest {
             throw new AssertionError("Parsing and execution of HistoryCommand.COMMAND_WORD should succeed.", e);
         }
     }
-
-
-    /**
-     * A stub class to throw an {@code IOException} when the save method is called.
-     */
-
-    private static class JsonFlashBookIoExceptionThrowingStub extends JsonFlashBookStorage {
-        private JsonFlashBookIoExceptionThrowingStub(Path filePath) {
-            super(filePath);
-        }
-
-        @Override
-        public void saveFlashBook(ReadOnlyFlashBook flashBook, Path filePath) throws IOException {
-            throw DUMMY_IO_EXCEPTION;
-        }
-    }
 }
@@ -0,0 +1,128 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalFlashcards.getTypicalFlashBook;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_FLASHCARD;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_FLASHCARD;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_FLASHCARD;
+import static seedu.address.testutil.TypicalSubjects.getTypicalSubjectBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.FlashBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.exceptions.FlashcardNotFoundException;
+import seedu.address.model.tag.SubjectTag;
+
+/**
+ * Contains integration tests (interaction with the Model, UndoCommand and RedoCommand) and unit tests for
+ * {@code BulkDeleteCommand}.
+ */
+public class BulkDeleteCommandTest {
+
+    private Model model = new ModelManager(getTypicalSubjectBook(), getTypicalFlashBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_validIndexes_success() {
+        model.setSelectedSubject(new SubjectTag("english"));
+        Flashcard firstFlashcard = model.getUpdatedFlashcardList().get(INDEX_FIRST_FLASHCARD.getZeroBased());
+        Flashcard secondFlashcard = model.getUpdatedFlashcardList().get(INDEX_SECOND_FLASHCARD.getZeroBased());
+        BulkDeleteCommand bulkDeleteCommand =
+                new BulkDeleteCommand(Arrays.asList(INDEX_SECOND_FLASHCARD, INDEX_FIRST_FLASHCARD));
+
+        String expectedMessage = String.format(BulkDeleteCommand.MESSAGE_DELETE_FLASHCARDS_SUCCESS, 2);
+
+        ModelManager expectedModel = new ModelManager(model.getSubjectBook(), model.getFlashBook(), new UserPrefs());
+        expectedModel.deleteFlashcard(firstFlashcard);
+        expectedModel.deleteFlashcard(secondFlashcard);
+        expectedModel.commitFlashBook();
+
+        assertCommandSuccess(bulkDeleteCommand, model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        model.setSelectedSubject(new SubjectTag("english"));
+        BulkDeleteCommand bulkDeleteCommand =
+                new BulkDeleteCommand(Arrays.asList(INDEX_FIRST_FLASHCARD, INDEX_THIRD_FLASHCARD));
+
+        // no flashcard is deleted if any index is invalid
+        assertCommandFailure(bulkDeleteCommand, model, commandHistory,
+                Messages.MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_failurePartWay_noFlashcardDeleted() throws Exception {
+        BulkDeleteCommand bulkDeleteCommand =
+                new BulkDeleteCommand(Arrays.asList(INDEX_SECOND_FLASHCARD, INDEX_SECOND_FLASHCARD));
+
+        try {
+            bulkDeleteCommand.execute(model, commandHistory);
+            fail("Deleting the same flashcard twice should have failed.");
+        } catch (FlashcardNotFoundException e) {
+            // expected
+        }
+        assertEquals(getTypicalFlashBook(), new FlashBook(model.getFlashBook()));
+        assertEquals(getTypicalFlashBook().getFlashcardList(), model.getFilteredFlashcardList());
+        assertFalse(model.canUndoFlashBook());
+    }
+
+    @Test
+    public void executeUndoRedo_validIndexes_undoneAndRedoneInOneStep() throws Exception {
+        model.setSelectedSubject(new SubjectTag("english"));
+        Flashcard firstFlashcard = model.getUpdatedFlashcardList().get(INDEX_FIRST_FLASHCARD.getZeroBased());
+        Flashcard secondFlashcard = model.getUpdatedFlashcardList().get(INDEX_SECOND_FLASHCARD.getZeroBased());
+        BulkDeleteCommand bulkDeleteCommand =
+                new BulkDeleteCommand(Arrays.asList(INDEX_FIRST_FLASHCARD, INDEX_SECOND_FLASHCARD));
+        Model expectedModel = new ModelManager(model.getSubjectBook(), model.getFlashBook(), new UserPrefs());
+        expectedModel.deleteFlashcard(firstFlashcard);
+        expectedModel.deleteFlashcard(secondFlashcard);
+        expectedModel.commitFlashBook();
+
+        // bulk delete -> both flashcards deleted
+        bulkDeleteCommand.execute(model, commandHistory);
+
+        // undo -> both flashcards restored
+        expectedModel.undoFlashBook();
+        assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // redo -> both flashcards deleted again
+        expectedModel.redoFlashBook();
+        assertCommandSuccess(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        BulkDeleteCommand deleteFirstAndSecondCommand =
+                new BulkDeleteCommand(Arrays.asList(INDEX_FIRST_FLASHCARD, INDEX_SECOND_FLASHCARD));
+        BulkDeleteCommand deleteFirstCommand = new BulkDeleteCommand(Collections.singletonList(INDEX_FIRST_FLASHCARD));
+
+        // same object -> returns true
+        assertTrue(deleteFirstAndSecondCommand.equals(deleteFirstAndSecondCommand));
+
+        // same values -> returns true
+        assertTrue(deleteFirstAndSecondCommand.equals(
+                new BulkDeleteCommand(Arrays.asList(INDEX_FIRST_FLASHCARD, INDEX_SECOND_FLASHCARD))));
+
+        // null -> returns false
+        assertFalse(deleteFirstAndSecondCommand.equals(null));
+
+        // different indexes -> returns false
+        assertFalse(deleteFirstAndSecondCommand.equals(deleteFirstCommand));
+    }
+
+}
@@ -0,0 +1,103 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalFlashcards.getTypicalFlashBook;
+import static seedu.address.testutil.TypicalSubjects.getTypicalSubjectBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.flashcard.Difficulty;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.storage.DelimitedFlashcardReader;
+import seedu.address.testutil.FlashcardBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model, UndoCommand and RedoCommand) and unit tests for
+ * {@code ImportCommand}.
+ */
+public class ImportCommandTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Model model = new ModelManager(getTypicalSubjectBook(), getTypicalFlashBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_newDuplicateAndInvalidRows_newFlashcardsImported() throws Exception {
+        Path filePath = Files.write(testFolder.getRoot().toPath().resolve("deck.csv"), Arrays.asList(
+                "Brown Fox,1,The quick brown fox jumps over the lazy dog,english",
+                "Photosynthesis,2,Plants make food from light,science",
+                "Photosynthesis,2,Plants make food from light,science",
+                "Cell,4,The unit of life,science",
+                "Osmosis,3,Water moves across a membrane,science"));
+        Flashcard photosynthesis = new FlashcardBuilder().withTopic("Photosynthesis").withDifficulty("2")
+                .withContent("Plants make food from light").withTags("science").build();
+        Flashcard osmosis = new FlashcardBuilder().withTopic("Osmosis").withDifficulty("3")
+                .withContent("Water moves across a membrane").withTags("science").build();
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath, 2, 1) + "\n"
+                + String.format(DelimitedFlashcardReader.MESSAGE_INVALID_ROW, 4, Difficulty.MESSAGE_CONSTRAINTS);
+
+        Model expectedModel = new ModelManager(model.getSubjectBook(), model.getFlashBook(), new UserPrefs());
+        expectedModel.addFlashcard(photosynthesis);
+        expectedModel.addFlashcard(osmosis);
+        expectedModel.commitFlashBook();
+
+        assertCommandSuccess(new ImportCommand(filePath), model, commandHistory, expectedMessage, expectedModel);
+
+        // undo -> all imported flashcards removed in one step
+        expectedModel.undoFlashBook();
+        assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_onlyDuplicates_noUndoableState() throws Exception {
+        Path filePath = Files.write(testFolder.getRoot().toPath().resolve("deck.tsv"), Arrays.asList(
+                "Brown Fox\t1\tThe quick brown fox jumps over the lazy dog\tenglish"));
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 0, filePath, 1, 0);
+        Model expectedModel = new ModelManager(model.getSubjectBook(), model.getFlashBook(), new UserPrefs());
+
+        assertCommandSuccess(new ImportCommand(filePath), model, commandHistory, expectedMessage, expectedModel);
+        assertCommandFailure(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.getRoot().toPath().resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(filePath), model, commandHistory,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importEnglishCommand = new ImportCommand(Paths.get("english.csv"));
+
+        // same object -> returns true
+        assertTrue(importEnglishCommand.equals(importEnglishCommand));
+
+        // same values -> returns true
+        assertTrue(importEnglishCommand.equals(new ImportCommand(Paths.get("english.csv"))));
+
+        // null -> returns false
+        assertFalse(importEnglishCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importEnglishCommand.equals(new ImportCommand(Paths.get("math.csv"))));
+    }
+
+}
@@ -136,6 +136,15 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixNotAfterSpace_takenAsPartOfValue() {
+        // prefix at the start, after a tab and after another prefix
+        String argsString = "p/start\tp/tab p/p/value ";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+        assertPreamblePresent(argMultimap, "p/start\tp/tab");
+        assertArgumentPresent(argMultimap, pSlash, "p/value");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.DIFFICULTY_DESC_CHINESE;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_DIFFICULTY_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_ENGLISH;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_DIFFICULTY_CHINESE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_ENGLISH;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_FLASHCARD;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_FLASHCARD;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.BulkEditCommand;
+import seedu.address.logic.commands.EditCommand.EditFlashcardDescriptor;
+import seedu.address.model.flashcard.Difficulty;
+import seedu.address.testutil.EditFlashcardDescriptorBuilder;
+
+public class BulkEditCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkEditCommand.MESSAGE_USAGE);
+
+    private BulkEditCommandParser parser = new BulkEditCommandParser();
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no index specified
+        assertParseFailure(parser, DIFFICULTY_DESC_CHINESE, MESSAGE_INVALID_FORMAT);
+
+        // no field specified
+        assertParseFailure(parser, "1 3", BulkEditCommand.MESSAGE_NOT_EDITED);
+    }
+
+    @Test
+    public void parse_invalidPreamble_failure() {
+        // one of the indexes is not a positive integer
+        assertParseFailure(parser, "1 0" + DIFFICULTY_DESC_CHINESE, MESSAGE_INVALID_FORMAT);
+
+        // topics cannot be edited in bulk
+        assertParseFailure(parser, "1 3 t/Topic" + DIFFICULTY_DESC_CHINESE, MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, "1 3" + INVALID_DIFFICULTY_DESC, Difficulty.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_allFieldsSpecified_success() {
+        String userInput = "1 3 1" + TAG_DESC_ENGLISH + DIFFICULTY_DESC_CHINESE;
+
+        EditFlashcardDescriptor descriptor = new EditFlashcardDescriptorBuilder()
+                .withDifficulty(VALID_DIFFICULTY_CHINESE).withTags(VALID_TAG_ENGLISH).build();
+        BulkEditCommand expectedCommand =
+                new BulkEditCommand(Arrays.asList(INDEX_FIRST_FLASHCARD, INDEX_THIRD_FLASHCARD), descriptor);
+
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
+}
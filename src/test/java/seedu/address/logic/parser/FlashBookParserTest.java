@@ -7,6 +7,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_FLASHCARD;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -24,6 +25,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SelectCommand;
@@ -145,6 +147,12 @@ public class FlashBookParserTest {
         }
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " decks/english.csv");
+        assertEquals(new ImportCommand(Paths.get("decks", "english.csv")), command);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
@@ -176,6 +184,20 @@ public class FlashBookParserTest {
         assertTrue(parser.parseCommand("undo 3") instanceof UndoCommand);
     }
 
+    @Test
+    public void parseCommand_surroundingWhitespace_ignored() throws Exception {
+        DeleteCommand command = (DeleteCommand) parser.parseCommand(" \t" + DeleteCommand.COMMAND_WORD + "\t "
+                + INDEX_FIRST_FLASHCARD.getOneBased() + " \n");
+        assertEquals(new DeleteCommand(INDEX_FIRST_FLASHCARD), command);
+    }
+
+    @Test
+    public void parseCommand_multipleLines_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        parser.parseCommand(DeleteCommand.COMMAND_WORD + " 1\n" + DeleteCommand.COMMAND_WORD + " 2");
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() throws Exception {
         thrown.expect(ParseException.class);
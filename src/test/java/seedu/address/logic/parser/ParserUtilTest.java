@@ -5,6 +5,8 @@ import static org.junit.Assert.assertTrue;
 
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_FLASHCARD;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_FLASHCARD;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_FLASHCARD;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -61,6 +63,30 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_FLASHCARD, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexes_noIndexes_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_INVALID_INDEX);
+        ParserUtil.parseIndexes(WHITESPACE);
+    }
+
+    @Test
+    public void parseIndexes_invalidIndex_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        ParserUtil.parseIndexes("1 a 3");
+    }
+
+    @Test
+    public void parseIndexes_validInput_success() throws Exception {
+        // whitespace between, before and after indexes
+        assertEquals(Arrays.asList(INDEX_THIRD_FLASHCARD, INDEX_FIRST_FLASHCARD),
+                ParserUtil.parseIndexes(WHITESPACE + "3" + WHITESPACE + "1" + WHITESPACE));
+
+        // repeated indexes -> kept once, in order of first appearance
+        assertEquals(Arrays.asList(INDEX_SECOND_FLASHCARD, INDEX_FIRST_FLASHCARD),
+                ParserUtil.parseIndexes("2 1 2 1"));
+    }
+
     @Test
     public void parseTopic_null_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> ParserUtil.parseTopic((String) null));
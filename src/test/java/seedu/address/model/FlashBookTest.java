@@ -5,9 +5,12 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CONTENT_ENGLISH;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_ENGLISH;
+import static seedu.address.testutil.TypicalFlashcards.CHINESE;
 import static seedu.address.testutil.TypicalFlashcards.ENGLISH;
+import static seedu.address.testutil.TypicalFlashcards.MATH;
 import static seedu.address.testutil.TypicalFlashcards.getTypicalFlashBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -20,6 +23,7 @@ import org.junit.rules.ExpectedException;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.flashcard.Flashcard;
 import seedu.address.model.flashcard.exceptions.DuplicateFlashcardException;
@@ -114,6 +118,85 @@ public class FlashBookTest {
         assertEquals(0, counter.get());
     }
 
+    @Test
+    public void commitBatch_multipleChanges_singleChangeAndNotification() {
+        flashBook.addFlashcard(ENGLISH);
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        flashBook.addListener(observable -> counter.set(counter.get() + 1));
+        List<ListChangeListener.Change<? extends Flashcard>> changes = new ArrayList<>();
+        flashBook.getFlashcardList().addListener((ListChangeListener<Flashcard>) changes::add);
+
+        flashBook.beginBatch();
+        flashBook.addFlashcard(CHINESE);
+        flashBook.beginBatch(); // nested batches are part of the outermost batch
+        flashBook.addFlashcard(MATH);
+        flashBook.commitBatch();
+        flashBook.removeFlashcard(ENGLISH);
+
+        // listeners are not told of the changes until the batch is committed, but the flash book sees them
+        assertTrue(flashBook.hasFlashcard(MATH));
+        assertFalse(flashBook.hasFlashcard(ENGLISH));
+        assertTrue(changes.isEmpty());
+        assertEquals(0, counter.get());
+
+        flashBook.commitBatch();
+        assertEquals(Arrays.asList(CHINESE, MATH), flashBook.getFlashcardList());
+        assertEquals(1, changes.size());
+        assertEquals(1, counter.get());
+        assertFalse(flashBook.isInBatch());
+
+        // the change only describes the flashcards that changed
+        ListChangeListener.Change<? extends Flashcard> change = changes.get(0);
+        List<Flashcard> removed = new ArrayList<>();
+        List<Flashcard> added = new ArrayList<>();
+        while (change.next()) {
+            removed.addAll(change.getRemoved());
+            added.addAll(change.getAddedSubList());
+        }
+        assertEquals(Collections.singletonList(ENGLISH), removed);
+        assertEquals(Arrays.asList(CHINESE, MATH), added);
+    }
+
+    @Test
+    public void abortBatch_changesMade_changesDiscardedWithoutNotification() {
+        flashBook.addFlashcard(ENGLISH);
+        flashBook.addFlashcard(CHINESE);
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        flashBook.addListener(observable -> counter.set(counter.get() + 1));
+
+        flashBook.beginBatch();
+        flashBook.removeFlashcard(ENGLISH);
+        flashBook.setFlashcard(CHINESE, MATH);
+        flashBook.addFlashcard(ENGLISH);
+        flashBook.abortBatch();
+
+        assertEquals(Arrays.asList(ENGLISH, CHINESE), flashBook.getFlashcardList());
+        assertFalse(flashBook.hasFlashcard(MATH));
+        assertEquals(0, counter.get());
+        assertFalse(flashBook.isInBatch());
+    }
+
+    @Test
+    public void abortBatch_noBatch_throwsIllegalStateException() {
+        thrown.expect(IllegalStateException.class);
+        flashBook.abortBatch();
+    }
+
+    @Test
+    public void commitBatch_noChanges_noNotification() {
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        flashBook.addListener(observable -> counter.set(counter.get() + 1));
+        flashBook.beginBatch();
+        flashBook.commitBatch();
+        assertEquals(0, counter.get());
+    }
+
+    @Test
+    public void commitBatch_noBatch_throwsIllegalStateException() {
+        thrown.expect(IllegalStateException.class);
+        flashBook.commitBatch();
+    }
+
     /**
      * A stub ReadOnlyFlashBook whose flashcards list can violate interface constraints.
      */
@@ -16,6 +16,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.flashcard.Flashcard;
 import seedu.address.model.flashcard.TopicContainsKeywordsPredicate;
@@ -41,6 +42,20 @@ public class ModelManagerTest {
         assertEquals(null, modelManager.getSelectedFlashcard());
     }
 
+    @Test
+    public void constructor_undoHistoryDepth_olderChangesCannotBeUndone() {
+        modelManager = new ModelManager(new SubjectBook(), new FlashBook(), new UserPrefs(), 1,
+                VersionedFlashBook.DEFAULT_MAX_RETAINED_FLASHCARDS);
+        modelManager.addFlashcard(ENGLISH);
+        modelManager.commitFlashBook();
+        modelManager.addFlashcard(CHINESE);
+        modelManager.commitFlashBook();
+
+        modelManager.undoFlashBook();
+        assertFalse(modelManager.canUndoFlashBook());
+        assertEquals(Collections.singletonList(ENGLISH), modelManager.getFilteredFlashcardList());
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -131,6 +146,45 @@ public class ModelManagerTest {
         assertEquals(updatedAlice, modelManager.getSelectedFlashcard());
     }
 
+    @Test
+    public void getSubjectBook_flashcardsChanged_subjectsInUseFollowed() {
+        modelManager.addFlashcard(ENGLISH);
+        modelManager.addFlashcard(CHINESE);
+        assertEquals(Arrays.asList(ENGLISH.getSubject(), CHINESE.getSubject()),
+                modelManager.getSubjectBook().getSubjectList());
+
+        modelManager.deleteFlashcard(ENGLISH);
+        assertEquals(Collections.singletonList(CHINESE.getSubject()), modelManager.getSubjectBook().getSubjectList());
+
+        // subject deleted before its last flashcard
+        modelManager.deleteSubject(CHINESE.getSubject());
+        modelManager.deleteFlashcard(CHINESE);
+        assertTrue(modelManager.getSubjectBook().getSubjectList().isEmpty());
+    }
+
+    @Test
+    public void getUpdatedFlashcardList_flashcardsOrSelectedSubjectChanged_viewUpdated() {
+        Flashcard history = new FlashcardBuilder().withTopic("Singapore").withTags("english").build();
+        modelManager.addFlashcard(ENGLISH);
+        modelManager.addFlashcard(CHINESE);
+
+        // no subject selected -> all flashcards
+        ObservableList<Flashcard> view = modelManager.getUpdatedFlashcardList();
+        assertEquals(Arrays.asList(ENGLISH, CHINESE), view);
+
+        modelManager.setSelectedSubject(ENGLISH.getSubject());
+        assertEquals(Collections.singletonList(ENGLISH), view);
+
+        // same view follows changes to the flash book
+        modelManager.addFlashcard(history);
+        assertEquals(Arrays.asList(ENGLISH, history), view);
+        modelManager.deleteFlashcard(ENGLISH);
+        assertEquals(Collections.singletonList(history), view);
+
+        modelManager.setSelectedSubject(CHINESE.getSubject());
+        assertEquals(Collections.singletonList(CHINESE), view);
+    }
+
     @Test
     public void getFilteredFlashcardList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -150,6 +150,44 @@ public class VersionedFlashBookTest {
                 Arrays.asList(flashBookWithAmy, flashBookWithBob));
     }
 
+    @Test
+    public void undoAndRedo_batchCommitted_allChangesUndoneAndRedoneTogether() {
+        VersionedFlashBook versionedFlashBook = new VersionedFlashBook(flashBookWithAmy);
+        versionedFlashBook.beginBatch();
+        versionedFlashBook.addFlashcard(CHINESE);
+        versionedFlashBook.addFlashcard(MATH);
+        versionedFlashBook.removeFlashcard(ENGLISH);
+        versionedFlashBook.commitBatch();
+        versionedFlashBook.commit();
+        ReadOnlyFlashBook batchedState = new FlashBook(versionedFlashBook);
+
+        versionedFlashBook.undo();
+        assertEquals(flashBookWithAmy, new FlashBook(versionedFlashBook));
+        assertFalse(versionedFlashBook.canUndo());
+
+        versionedFlashBook.redo();
+        assertEquals(batchedState, new FlashBook(versionedFlashBook));
+    }
+
+    @Test
+    public void abortBatch_changesMade_changesNotCommitted() {
+        VersionedFlashBook versionedFlashBook = new VersionedFlashBook(flashBookWithAmy);
+        versionedFlashBook.addFlashcard(CHINESE);
+        versionedFlashBook.beginBatch();
+        versionedFlashBook.addFlashcard(MATH);
+        versionedFlashBook.removeFlashcard(ENGLISH);
+        versionedFlashBook.abortBatch();
+        versionedFlashBook.commit();
+        ReadOnlyFlashBook committedState = new FlashBook(versionedFlashBook);
+
+        versionedFlashBook.undo();
+        assertEquals(flashBookWithAmy, new FlashBook(versionedFlashBook));
+        versionedFlashBook.redo();
+        assertEquals(committedState, new FlashBook(versionedFlashBook));
+        assertEquals(2, committedState.getFlashcardList().size());
+        assertTrue(committedState.getFlashcardList().contains(CHINESE));
+    }
+
     @Test
     public void undo_singleFlashBook_throwsNoUndoableStateException() {
         VersionedFlashBook versionedFlashBook = prepareFlashBookList(emptyFlashBook);
@@ -207,6 +245,88 @@ public class VersionedFlashBookTest {
         assertThrows(VersionedFlashBook.NoRedoableStateException.class, versionedFlashBook::redo);
     }
 
+    @Test
+    public void undo_afterRemove_restoresFlashcardAtOriginalPosition() {
+        VersionedFlashBook versionedFlashBook = new VersionedFlashBook(
+                new FlashBookBuilder().withFlashcard(ENGLISH).withFlashcard(CHINESE).withFlashcard(MATH).build());
+        versionedFlashBook.removeFlashcard(CHINESE);
+        versionedFlashBook.commit();
+
+        versionedFlashBook.undo();
+        assertEquals(Arrays.asList(ENGLISH, CHINESE, MATH), versionedFlashBook.getFlashcardList());
+        versionedFlashBook.redo();
+        assertEquals(Arrays.asList(ENGLISH, MATH), versionedFlashBook.getFlashcardList());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsUncommittedChanges() {
+        VersionedFlashBook versionedFlashBook = prepareFlashBookList(emptyFlashBook, flashBookWithAmy);
+        versionedFlashBook.addFlashcard(CHINESE);
+        versionedFlashBook.setFlashcard(ENGLISH, MATH);
+
+        versionedFlashBook.undo();
+        assertEquals(emptyFlashBook, new FlashBook(versionedFlashBook));
+        versionedFlashBook.redo();
+        assertEquals(flashBookWithAmy, new FlashBook(versionedFlashBook));
+    }
+
+    @Test
+    public void commit_beyondMaxHistoryDepth_oldestStatesDropped() {
+        VersionedFlashBook versionedFlashBook = new VersionedFlashBook(emptyFlashBook, 2,
+                VersionedFlashBook.DEFAULT_MAX_RETAINED_FLASHCARDS);
+        for (ReadOnlyFlashBook flashBook : Arrays.asList(flashBookWithAmy, flashBookWithBob, flashBookWithCarl)) {
+            versionedFlashBook.resetData(flashBook);
+            versionedFlashBook.commit();
+        }
+        assertFlashBookListStatus(versionedFlashBook,
+                Arrays.asList(flashBookWithAmy, flashBookWithBob),
+                flashBookWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_beyondMaxRetainedFlashcards_oldestStatesDropped() {
+        VersionedFlashBook versionedFlashBook = new VersionedFlashBook(emptyFlashBook,
+                VersionedFlashBook.DEFAULT_MAX_HISTORY_DEPTH, 2);
+        versionedFlashBook.addFlashcard(ENGLISH);
+        versionedFlashBook.commit();
+        versionedFlashBook.addFlashcard(CHINESE);
+        versionedFlashBook.commit();
+        versionedFlashBook.addFlashcard(MATH);
+        versionedFlashBook.commit();
+
+        versionedFlashBook.undo();
+        versionedFlashBook.undo();
+        assertFalse(versionedFlashBook.canUndo());
+        assertEquals(Collections.singletonList(ENGLISH), versionedFlashBook.getFlashcardList());
+    }
+
+    @Test
+    public void undoAndRedo_flashcardsAppended_recordedAsSingleChange() {
+        VersionedFlashBook versionedFlashBook = new VersionedFlashBook(flashBookWithAmy,
+                VersionedFlashBook.DEFAULT_MAX_HISTORY_DEPTH, 2);
+        versionedFlashBook.addFlashcard(CHINESE);
+        versionedFlashBook.addFlashcard(MATH);
+        versionedFlashBook.commit();
+        assertTrue(versionedFlashBook.canUndo());
+
+        versionedFlashBook.undo();
+        assertEquals(Collections.singletonList(ENGLISH), versionedFlashBook.getFlashcardList());
+        versionedFlashBook.redo();
+        assertEquals(Arrays.asList(ENGLISH, CHINESE, MATH), versionedFlashBook.getFlashcardList());
+    }
+
+    @Test
+    public void commit_resetSharingFlashcards_sharedFlashcardsRetainedOnce() {
+        VersionedFlashBook versionedFlashBook = new VersionedFlashBook(flashBookWithAmy,
+                VersionedFlashBook.DEFAULT_MAX_HISTORY_DEPTH, 2);
+        versionedFlashBook.setFlashcards(Arrays.asList(ENGLISH, CHINESE));
+        versionedFlashBook.commit();
+
+        versionedFlashBook.undo();
+        assertEquals(Collections.singletonList(ENGLISH), versionedFlashBook.getFlashcardList());
+    }
+
     @Test
     public void equals() {
         VersionedFlashBook versionedFlashBook = prepareFlashBookList(flashBookWithAmy, flashBookWithBob);
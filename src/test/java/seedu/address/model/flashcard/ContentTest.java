@@ -1,8 +1,12 @@
 package seedu.address.model.flashcard;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -35,4 +39,33 @@ public class ContentTest {
         assertTrue(Content.isValidContent("Leng Inc; 1234 Market St; San Francisco CA 2349879; USA"));
         // long content
     }
+
+    @Test
+    public void ofLazy_hashCodeNeeded_notLoaded() {
+        String value = "Blk 456, Den Road, #01-355";
+        AtomicInteger loadCount = new AtomicInteger();
+        Content content = Content.ofLazy(value.hashCode(), () -> {
+            loadCount.incrementAndGet();
+            return value;
+        });
+
+        assertEquals(new Content(value).hashCode(), content.hashCode());
+        assertNotEquals(new Content("-"), content); // different hash codes
+        assertEquals(0, loadCount.get());
+    }
+
+    @Test
+    public void ofLazy_valueNeeded_loadedOnce() {
+        String value = "Blk 456, Den Road, #01-355";
+        AtomicInteger loadCount = new AtomicInteger();
+        Content content = Content.ofLazy(value.hashCode(), () -> {
+            loadCount.incrementAndGet();
+            return value;
+        });
+
+        assertEquals(value, content.getValue());
+        assertEquals(new Content(value), content);
+        assertEquals(value, content.toString());
+        assertEquals(1, loadCount.get());
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.model.flashcard;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -38,4 +40,18 @@ public class DifficultyTest {
         assertTrue(Difficulty.isValidDifficulty("2"));
         assertTrue(Difficulty.isValidDifficulty("3")); // long phone numbers
     }
+
+    @Test
+    public void of_invalidDifficulty_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> Difficulty.of("4"));
+    }
+
+    @Test
+    public void of_sameDifficulty_returnsSameInstance() {
+        Difficulty easy = Difficulty.of("1");
+        assertEquals(new Difficulty("1"), easy);
+        assertSame(easy, Difficulty.of("1"));
+        assertSame(easy, Difficulty.ofValidated("1"));
+        assertSame(Difficulty.of("3"), Difficulty.ofValidated("3"));
+    }
 }
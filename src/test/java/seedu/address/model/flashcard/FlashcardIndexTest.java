@@ -0,0 +1,81 @@
+package seedu.address.model.flashcard;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalFlashcards.CHINESE;
+import static seedu.address.testutil.TypicalFlashcards.ENGLISH;
+import static seedu.address.testutil.TypicalFlashcards.MATH;
+import static seedu.address.testutil.TypicalFlashcards.getTypicalFlashcards;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.FlashcardBuilder;
+
+public class FlashcardIndexTest {
+
+    private final ObservableList<Flashcard> flashcards = FXCollections.observableArrayList(ENGLISH, CHINESE);
+    private final FlashcardIndex index = new FlashcardIndex(flashcards);
+
+    @Test
+    public void getFlashcardsWithTopicWord_ignoresCase() {
+        assertEquals(Collections.singleton(ENGLISH), index.getFlashcardsWithTopicWord("bROWN"));
+        assertTrue(index.getFlashcardsWithTopicWord("Brow").isEmpty());
+    }
+
+    @Test
+    public void getFlashcards_afterListChanges_indexUpdated() {
+        flashcards.add(MATH);
+        assertEquals(Collections.singleton(MATH), index.getFlashcardsWithSubject("math"));
+        assertEquals(2, index.getFlashcardsWithDifficulty("1").size());
+
+        Flashcard editedMath = new FlashcardBuilder(MATH).withDifficulty("3").withDeadline("tomorrow").build();
+        flashcards.set(flashcards.indexOf(MATH), editedMath);
+        assertEquals(Collections.singleton(ENGLISH), index.getFlashcardsWithDifficulty("1"));
+        assertEquals(Collections.singleton(editedMath), index.getFlashcardsWithDifficulty("3"));
+        assertEquals(Collections.singleton(editedMath), index.getFlashcardsWithDeadline("Tomorrow"));
+
+        flashcards.remove(editedMath);
+        assertTrue(index.getFlashcardsWithSubject("math").isEmpty());
+        assertTrue(index.getFlashcardsWithTopicWord("pythagoras").isEmpty());
+    }
+
+    @Test
+    public void resolve_indexedPredicates_matchesPredicateTest() {
+        flashcards.setAll(getTypicalFlashcards());
+        assertResolvedMatchesTest(new TopicContainsKeywordsPredicate(Arrays.asList("fox", "THEOREM", "missing")));
+        assertResolvedMatchesTest(new TopicContainsSubjectPredicate(Arrays.asList("english", "Math")));
+        assertResolvedMatchesTest(new TopicContainsDifficultyPredicate(Collections.singletonList("2")));
+        assertResolvedMatchesTest(new TopicContainsDoublePredicate(
+                Collections.singletonList("english"), Collections.singletonList("1")));
+    }
+
+    @Test
+    public void resolve_flashcardAddedAfterResolving_testsAddedFlashcard() {
+        Predicate<Flashcard> resolved =
+                index.resolve(new TopicContainsSubjectPredicate(Collections.singletonList("math")));
+        assertFalse(resolved.test(MATH));
+
+        flashcards.add(MATH);
+        assertTrue(resolved.test(MATH));
+    }
+
+    /**
+     * Asserts that resolving {@code predicate} through the index selects the same flashcards as
+     * {@code predicate} itself.
+     */
+    private void assertResolvedMatchesTest(IndexedFlashcardPredicate predicate) {
+        Predicate<Flashcard> resolved = index.resolve(predicate);
+        Set<Flashcard> expected = flashcards.stream().filter(predicate).collect(Collectors.toSet());
+        Set<Flashcard> actual = flashcards.stream().filter(resolved).collect(Collectors.toSet());
+        assertEquals(expected, actual);
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.flashcard;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CONTENT_CHINESE;
@@ -15,6 +16,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.util.SampleDataUtil;
 import seedu.address.testutil.FlashcardBuilder;
 
 public class FlashcardTest {
@@ -28,6 +30,22 @@ public class FlashcardTest {
         flashcard.getTags().remove(0);
     }
 
+    @Test
+    public void getTags_multipleTags_throwsUnsupportedOperationExceptionOnModification() {
+        Flashcard flashcard = new Flashcard(ENGLISH.getTopic(), ENGLISH.getDifficulty(), ENGLISH.getContent(),
+                ENGLISH.getDeadline(), SampleDataUtil.getTagSet(VALID_TAG_ENGLISH, VALID_TAG_CHINESE));
+        assertEquals(2, flashcard.getTags().size());
+        thrown.expect(UnsupportedOperationException.class);
+        flashcard.getTags().clear();
+    }
+
+    @Test
+    public void hashCode_equalFlashcards_sameHashCode() {
+        Flashcard englishCopy = new FlashcardBuilder(ENGLISH).build();
+        assertEquals(ENGLISH.hashCode(), englishCopy.hashCode());
+        assertEquals(ENGLISH.hashCode(), englishCopy.hashCode()); // cached hash code
+    }
+
     @Test
     public void isSameFlashcard() {
         // same object -> returns true
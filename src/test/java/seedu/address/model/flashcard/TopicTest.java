@@ -1,8 +1,11 @@
 package seedu.address.model.flashcard;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -38,4 +41,16 @@ public class TopicTest {
         assertTrue(Topic.isValidTopic("MATH")); // with capital letters
         assertTrue(Topic.isValidTopic("Mathematics chapter 3 about area calculation")); // long topics
     }
+
+    @Test
+    public void getWords_returnsCaseFoldedWords() {
+        assertEquals(Arrays.asList("chapter", "2", "area"), new Topic("Chapter  2 AREA ").getWords());
+    }
+
+    @Test
+    public void ofValidated_validTopic_equalsConstructedTopic() {
+        Topic topic = Topic.ofValidated("Chapter 2 area");
+        assertEquals(new Topic("Chapter 2 area"), topic);
+        assertEquals(Arrays.asList("chapter", "2", "area"), topic.getWords());
+    }
 }
@@ -44,6 +44,20 @@ public class UniqueFlashcardListTest {
         assertTrue(uniqueFlashcardList.contains(ENGLISH));
     }
 
+    @Test
+    public void containsEqual() {
+        uniqueFlashcardList.add(ENGLISH);
+        assertTrue(uniqueFlashcardList.containsEqual(ENGLISH));
+
+        // same identity, different difficulty -> returns false
+        assertFalse(uniqueFlashcardList.containsEqual(new FlashcardBuilder(ENGLISH).withDifficulty("3").build()));
+
+        // different deadline, which is not compared by equals -> returns true
+        assertTrue(uniqueFlashcardList.containsEqual(new FlashcardBuilder(ENGLISH).withDeadline("later").build()));
+
+        assertFalse(uniqueFlashcardList.containsEqual(CHINESE));
+    }
+
     @Test
     public void contains_flashcardWithSameIdentityFieldsInList_returnsTrue() {
         uniqueFlashcardList.add(ENGLISH);
@@ -54,6 +68,16 @@ public class UniqueFlashcardListTest {
         assertTrue(uniqueFlashcardList.contains(editedEnglish));
     }
 
+    @Test(timeout = 5000)
+    public void add_manyFlashcards_scalesLinearly() {
+        // a linear scan per add would make this quadratic and blow well past the timeout
+        for (int i = 0; i < 50000; i++) {
+            uniqueFlashcardList.add(new FlashcardBuilder().withTopic("Topic " + i).build());
+        }
+        assertTrue(uniqueFlashcardList.contains(new FlashcardBuilder().withTopic("Topic 49999").build()));
+        assertFalse(uniqueFlashcardList.contains(new FlashcardBuilder().withTopic("Topic 50000").build()));
+    }
+
     @Test
     public void add_nullFlashcard_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -182,6 +206,15 @@ public class UniqueFlashcardListTest {
         uniqueFlashcardList.setFlashcards(listWithDuplicateFlashcards);
     }
 
+    @Test
+    public void setFlashcards_listWithDuplicateFlashcards_reportsCollidingFlashcard() {
+        Flashcard editedEnglish = new FlashcardBuilder(ENGLISH).withDifficulty("3").build();
+        List<Flashcard> listWithDuplicateFlashcards = Arrays.asList(ENGLISH, CHINESE, editedEnglish);
+        thrown.expect(DuplicateFlashcardException.class);
+        thrown.expectMessage(editedEnglish.toString());
+        uniqueFlashcardList.setFlashcards(listWithDuplicateFlashcards);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
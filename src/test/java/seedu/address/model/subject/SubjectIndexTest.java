@@ -0,0 +1,83 @@
+package seedu.address.model.subject;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalFlashcards.CHINESE;
+import static seedu.address.testutil.TypicalFlashcards.ENGLISH;
+import static seedu.address.testutil.TypicalFlashcards.HISTORY;
+import static seedu.address.testutil.TypicalFlashcards.MATH;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.tag.SubjectTag;
+import seedu.address.testutil.FlashcardBuilder;
+
+public class SubjectIndexTest {
+
+    private static final SubjectTag ENGLISH_SUBJECT = SubjectTag.of("english");
+    private static final SubjectTag CHINESE_SUBJECT = SubjectTag.of("chinese");
+    private static final SubjectTag MATH_SUBJECT = SubjectTag.of("math");
+
+    // HISTORY is also an english flashcard
+    private final ObservableList<Flashcard> flashcards = FXCollections.observableArrayList(ENGLISH, CHINESE, HISTORY);
+    private final SubjectIndex index = new SubjectIndex(flashcards);
+
+    @Test
+    public void constructor_subjectsInOrderOfFirstUse() {
+        assertEquals(Arrays.asList(ENGLISH_SUBJECT, CHINESE_SUBJECT), index.getSubjectList());
+    }
+
+    @Test
+    public void getSubjectList_afterListChanges_subjectsInUse() {
+        flashcards.add(MATH);
+        assertEquals(Arrays.asList(ENGLISH_SUBJECT, CHINESE_SUBJECT, MATH_SUBJECT), index.getSubjectList());
+
+        // one of two english flashcards removed -> subject still in use
+        flashcards.remove(HISTORY);
+        assertEquals(Arrays.asList(ENGLISH_SUBJECT, CHINESE_SUBJECT, MATH_SUBJECT), index.getSubjectList());
+
+        // last chinese flashcard moved to another subject
+        Flashcard editedChinese = new FlashcardBuilder(CHINESE).withTags("math").build();
+        flashcards.set(flashcards.indexOf(CHINESE), editedChinese);
+        assertEquals(Arrays.asList(ENGLISH_SUBJECT, MATH_SUBJECT), index.getSubjectList());
+
+        // one of two math flashcards removed -> subject still in use
+        flashcards.remove(MATH);
+        assertEquals(Arrays.asList(ENGLISH_SUBJECT, MATH_SUBJECT), index.getSubjectList());
+
+        flashcards.clear();
+        assertTrue(index.getSubjectList().isEmpty());
+    }
+
+    @Test
+    public void getSubjectList_onlyFlashcardOfSubjectReplaced_subjectListUnchanged() {
+        List<ListChangeListener.Change<? extends SubjectTag>> changes = new ArrayList<>();
+        index.getSubjectList().addListener((ListChangeListener<SubjectTag>) changes::add);
+
+        Flashcard editedChinese = new FlashcardBuilder(CHINESE).withDifficulty("3").build();
+        flashcards.set(flashcards.indexOf(CHINESE), editedChinese);
+        flashcards.setAll(flashcards.get(1), flashcards.get(0), flashcards.get(2));
+
+        assertTrue(changes.isEmpty());
+
+        // the replaced flashcard no longer counts for its subject
+        flashcards.remove(editedChinese);
+        assertEquals(Collections.singletonList(ENGLISH_SUBJECT), index.getSubjectList());
+    }
+
+    @Test
+    public void fromFlashcards_subjectsInOrderOfFirstUse() {
+        assertEquals(Arrays.asList(ENGLISH_SUBJECT, CHINESE_SUBJECT, MATH_SUBJECT),
+                SubjectBook.fromFlashcards(Arrays.asList(ENGLISH, CHINESE, HISTORY, MATH)).getSubjectList());
+    }
+
+}
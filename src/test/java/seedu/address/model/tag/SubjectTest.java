@@ -1,5 +1,8 @@
 package seedu.address.model.tag;
 
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -23,4 +26,17 @@ public class SubjectTest {
         Assert.assertThrows(NullPointerException.class, () -> SubjectTag.isValidSubjectName(null));
     }
 
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> SubjectTag.of("math*"));
+    }
+
+    @Test
+    public void of_sameSubjectName_returnsSameInstance() {
+        SubjectTag math = SubjectTag.of("math");
+        assertSame(math, SubjectTag.of("math"));
+        assertSame(math, SubjectTag.ofValidated("math"));
+        assertNotSame(math, SubjectTag.of("Math"));
+    }
+
 }
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalFlashcards.CS2101;
+import static seedu.address.testutil.TypicalFlashcards.getTypicalFlashBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import seedu.address.model.FlashBook;
+import seedu.address.model.ReadOnlyFlashBook;
+
+public class AsyncFlashBookSaverTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @Test
+    public void requestSave_burstOfRequests_latestFlashBookSavedOnce() throws Exception {
+        BlockingFlashBookStorageStub storage = new BlockingFlashBookStorageStub();
+        AsyncFlashBookSaver saver = new AsyncFlashBookSaver(storage, e -> {
+            throw new AssertionError("Saving should not fail.", e);
+        });
+        FlashBook flashBook = getTypicalFlashBook();
+
+        // the first save blocks the saving thread, so that the following requests are coalesced
+        saver.requestSave(new FlashBook());
+        assertTrue(storage.saveStarted.await(5, TimeUnit.SECONDS));
+        saver.requestSave(flashBook);
+        flashBook.addFlashcard(CS2101);
+        saver.requestSave(flashBook);
+        storage.saveAllowed.countDown();
+        saver.flush();
+
+        assertEquals(2, storage.savedFlashBooks.size());
+        assertEquals(flashBook, new FlashBook(storage.savedFlashBooks.get(1)));
+    }
+
+    @Test
+    public void requestSave_flashBookChangedAfterRequest_changeNotSaved() {
+        BlockingFlashBookStorageStub storage = new BlockingFlashBookStorageStub();
+        storage.saveAllowed.countDown();
+        AsyncFlashBookSaver saver = new AsyncFlashBookSaver(storage, e -> {
+            throw new AssertionError("Saving should not fail.", e);
+        });
+        FlashBook flashBook = getTypicalFlashBook();
+
+        saver.requestSave(flashBook);
+        FlashBook expectedFlashBook = new FlashBook(flashBook);
+        flashBook.addFlashcard(CS2101);
+        saver.flush();
+
+        assertEquals(expectedFlashBook, new FlashBook(storage.savedFlashBooks.get(0)));
+    }
+
+    @Test
+    public void requestSave_storageThrowsIoException_failureHandled() {
+        List<IOException> failures = new ArrayList<>();
+        AsyncFlashBookSaver saver = new AsyncFlashBookSaver(new JsonFlashBookIoExceptionThrowingStub(), failures::add);
+
+        saver.requestSave(new FlashBook());
+        saver.flush();
+
+        assertEquals(1, failures.size());
+        assertSame(DUMMY_IO_EXCEPTION, failures.get(0));
+    }
+
+    /**
+     * A stub class that records the flash books it is asked to save, and blocks until it is allowed to save.
+     */
+    private static class BlockingFlashBookStorageStub extends JsonFlashBookStorage {
+        private final List<ReadOnlyFlashBook> savedFlashBooks = new ArrayList<>();
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private final CountDownLatch saveAllowed = new CountDownLatch(1);
+
+        private BlockingFlashBookStorageStub() {
+            super(Paths.get("dummy"));
+        }
+
+        @Override
+        public void saveFlashBook(ReadOnlyFlashBook flashBook, Path filePath) throws IOException {
+            saveStarted.countDown();
+            try {
+                saveAllowed.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError("Saving should not be interrupted.", e);
+            }
+            savedFlashBooks.add(flashBook);
+        }
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} when the save method is called.
+     */
+    private static class JsonFlashBookIoExceptionThrowingStub extends JsonFlashBookStorage {
+        private JsonFlashBookIoExceptionThrowingStub() {
+            super(Paths.get("dummy"));
+        }
+
+        @Override
+        public void saveFlashBook(ReadOnlyFlashBook flashBook, Path filePath) throws IOException {
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalFlashcards.CS2101;
+import static seedu.address.testutil.TypicalFlashcards.getTypicalFlashBook;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.FlashBook;
+import seedu.address.model.ReadOnlyFlashBook;
+import seedu.address.model.flashcard.Content;
+import seedu.address.model.flashcard.Deadline;
+import seedu.address.model.flashcard.Difficulty;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.Topic;
+import seedu.address.model.util.SampleDataUtil;
+
+public class BinaryFlashBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    @Test
+    public void isBinaryFlashBookFile() {
+        assertTrue(BinaryFlashBookStorage.isBinaryFlashBookFile(Paths.get("data", "flashbook.fbk")));
+        assertFalse(BinaryFlashBookStorage.isBinaryFlashBookFile(Paths.get("data", "flashbook.json")));
+    }
+
+    @Test
+    public void readFlashBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryFlashBookStorage(getTempFilePath("missing.fbk")).readFlashBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveFlashBook_allInOrder_success() throws Exception {
+        BinaryFlashBookStorage storage = new BinaryFlashBookStorage(getTempFilePath("TempFlashBook.fbk"));
+        FlashBook original = getTypicalFlashBook();
+        original.addFlashcard(new Flashcard(new Topic("Many subjects"), Difficulty.of("3"),
+                new Content("Ünïcödé content ✓"), new Deadline("Next week"),
+                SampleDataUtil.getTagSet("english", "math")));
+
+        storage.saveFlashBook(original);
+        FlashBook readBack = new FlashBook(storage.readFlashBook().get());
+        assertEquals(original, readBack);
+        for (int i = 0; i < original.getFlashcardList().size(); i++) {
+            assertEquals(original.getFlashcardList().get(i).getDeadline(),
+                    readBack.getFlashcardList().get(i).getDeadline());
+        }
+
+        // overwrite existing file
+        original.addFlashcard(CS2101);
+        storage.saveFlashBook(original);
+        assertEquals(original, new FlashBook(storage.readFlashBook().get()));
+    }
+
+    @Test
+    public void readFlashBook_fileLargerThanReadBuffer_success() throws Exception {
+        BinaryFlashBookStorage storage = new BinaryFlashBookStorage(getTempFilePath("Large.fbk"));
+        FlashBook original = new FlashBook();
+        StringBuilder longContent = new StringBuilder("Long content");
+        for (int i = 0; i < 20_000; i++) {
+            longContent.append(" word").append(i);
+        }
+        original.addFlashcard(new Flashcard(new Topic("Long"), Difficulty.of("1"), new Content(longContent.toString()),
+                new Deadline(""), SampleDataUtil.getTagSet("english")));
+        for (int i = 0; i < 5_000; i++) {
+            original.addFlashcard(new Flashcard(new Topic("Topic " + i), Difficulty.of("2"),
+                    new Content("Content " + i), new Deadline("Week " + i), SampleDataUtil.getTagSet("math")));
+        }
+
+        storage.saveFlashBook(original);
+        assertEquals(original, new FlashBook(storage.readFlashBook().get()));
+    }
+
+    @Test
+    public void readFlashBook_fileReplacedBeforeContentsNeeded_originalContentsRead() throws Exception {
+        Path filePath = getTempFilePath("TempFlashBook.fbk");
+        BinaryFlashBookStorage storage = new BinaryFlashBookStorage(filePath);
+        FlashBook original = getTypicalFlashBook();
+        storage.saveFlashBook(original);
+
+        ReadOnlyFlashBook readBack = storage.readFlashBook().get();
+        storage.saveFlashBook(new FlashBook());
+
+        for (int i = 0; i < original.getFlashcardList().size(); i++) {
+            assertEquals(original.getFlashcardList().get(i).getContent().getValue(),
+                    readBack.getFlashcardList().get(i).getContent().getValue());
+        }
+    }
+
+    @Test
+    public void readFlashBook_emptyFlashBook_success() throws Exception {
+        BinaryFlashBookStorage storage = new BinaryFlashBookStorage(getTempFilePath("Empty.fbk"));
+        storage.saveFlashBook(new FlashBook());
+        assertEquals(new FlashBook(), new FlashBook(storage.readFlashBook().get()));
+    }
+
+    @Test
+    public void readFlashBook_corruptedFile_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath("Corrupted.fbk");
+        new BinaryFlashBookStorage(filePath).saveFlashBook(getTypicalFlashBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        thrown.expect(DataConversionException.class);
+        new BinaryFlashBookStorage(filePath).readFlashBook();
+    }
+
+    @Test
+    public void readFlashBook_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath("FutureVersion.fbk");
+        new BinaryFlashBookStorage(filePath).saveFlashBook(getTypicalFlashBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[4] = BinaryFlashBookStorage.FORMAT_VERSION + 1;
+        Files.write(filePath, bytes);
+
+        thrown.expect(DataConversionException.class);
+        new BinaryFlashBookStorage(filePath).readFlashBook();
+    }
+
+    @Test
+    public void readFlashBook_jsonFile_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath("FlashBook.json");
+        new JsonFlashBookStorage(filePath).saveFlashBook(getTypicalFlashBook());
+
+        thrown.expect(DataConversionException.class);
+        new BinaryFlashBookStorage(filePath).readFlashBook();
+    }
+
+    @Test
+    public void importAndExportJson_roundTrip_success() throws Exception {
+        Path jsonFilePath = getTempFilePath("FlashBook.json");
+        Path exportedFilePath = getTempFilePath("Exported.json");
+        FlashBook original = getTypicalFlashBook();
+        new JsonFlashBookStorage(jsonFilePath).saveFlashBook(original);
+
+        BinaryFlashBookStorage storage = new BinaryFlashBookStorage(getTempFilePath("FlashBook.fbk"));
+        storage.importFromJson(jsonFilePath);
+        assertEquals(original, new FlashBook(storage.readFlashBook().get()));
+
+        storage.exportToJson(exportedFilePath);
+        assertEquals(original, new FlashBook(new JsonFlashBookStorage(exportedFilePath).readFlashBook().get()));
+    }
+
+    @Test
+    public void importFromJson_missingFile_throwsNoSuchFileException() throws Exception {
+        thrown.expect(NoSuchFileException.class);
+        new BinaryFlashBookStorage(getTempFilePath("FlashBook.fbk")).importFromJson(getTempFilePath("missing.json"));
+    }
+
+}
@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.flashcard.Content;
+import seedu.address.model.flashcard.Deadline;
+import seedu.address.model.flashcard.Difficulty;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.Topic;
+import seedu.address.testutil.FlashcardBuilder;
+
+public class DelimitedFlashcardReaderTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path writeTempFile(String fileName, List<String> lines) throws Exception {
+        return Files.write(testFolder.getRoot().toPath().resolve(fileName), lines);
+    }
+
+    @Test
+    public void isDelimitedFlashcardFile() {
+        assertTrue(DelimitedFlashcardReader.isDelimitedFlashcardFile(Paths.get("decks", "english.csv")));
+        assertTrue(DelimitedFlashcardReader.isDelimitedFlashcardFile(Paths.get("decks", "ENGLISH.TSV")));
+        assertFalse(DelimitedFlashcardReader.isDelimitedFlashcardFile(Paths.get("decks", "english.json")));
+        assertFalse(DelimitedFlashcardReader.isDelimitedFlashcardFile(Paths.get("csv")));
+    }
+
+    @Test
+    public void read_csvFile_validRowsReadInvalidRowsDescribed() throws Exception {
+        Path filePath = writeTempFile("deck.csv", Arrays.asList(
+                "\uFEFFTopic,Difficulty,Content,Subject,Deadline",
+                "Brown Fox,1,\"The quick, brown \"\"fox\"\"\",english,Week 3",
+                "",
+                "Pythagoras Theorem, 2 ,a^2 + b^2 = c^2",
+                "Bad Difficulty,4,Content,math",
+                "Unterminated,1,\"Content"));
+        List<Flashcard> flashcards = new ArrayList<>();
+        DelimitedFlashcardReader.Result result =
+                new DelimitedFlashcardReader(filePath).read(flashcards::add, linesRead -> { });
+
+        Flashcard quoted = new FlashcardBuilder().withTopic("Brown Fox").withDifficulty("1")
+                .withContent("The quick, brown \"fox\"").withTags("english").build();
+        Flashcard withoutSubject = new Flashcard(new Topic("Pythagoras Theorem"), Difficulty.of("2"),
+                new Content("a^2 + b^2 = c^2"), new Deadline(""), Collections.emptySet());
+        assertEquals(Arrays.asList(quoted, withoutSubject), flashcards);
+        assertEquals(2, result.getFlashcardCount());
+        assertEquals("Week 3", flashcards.get(0).getDeadline().value);
+
+        assertEquals(Arrays.asList(
+                String.format(DelimitedFlashcardReader.MESSAGE_INVALID_ROW, 5, Difficulty.MESSAGE_CONSTRAINTS),
+                String.format(DelimitedFlashcardReader.MESSAGE_INVALID_ROW, 6,
+                        DelimitedFlashcardReader.MESSAGE_UNTERMINATED_QUOTE)),
+                result.getInvalidRows());
+    }
+
+    @Test
+    public void read_tsvFile_fieldsSplitOnTabs() throws Exception {
+        Path filePath = writeTempFile("deck.tsv", Arrays.asList(
+                "Brown Fox\t1\tThe quick, \"brown\" fox\tenglish",
+                "Too Few\t1"));
+        List<Flashcard> flashcards = new ArrayList<>();
+        DelimitedFlashcardReader.Result result =
+                new DelimitedFlashcardReader(filePath).read(flashcards::add, linesRead -> { });
+
+        assertEquals(Collections.singletonList(new FlashcardBuilder().withTopic("Brown Fox").withDifficulty("1")
+                .withContent("The quick, \"brown\" fox").withTags("english").build()), flashcards);
+        assertEquals(Collections.singletonList(String.format(DelimitedFlashcardReader.MESSAGE_INVALID_ROW, 2,
+                String.format(DelimitedFlashcardReader.MESSAGE_WRONG_FIELD_COUNT, 2))), result.getInvalidRows());
+    }
+
+    @Test
+    public void read_moreRowsThanChunkSize_rowsReadInOrderWithProgress() throws Exception {
+        int rowCount = DelimitedFlashcardReader.CHUNK_SIZE + 10;
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < rowCount; i++) {
+            lines.add("Topic " + i + ",1,Content " + i + ",math");
+        }
+        int invalidLineNumber = DelimitedFlashcardReader.CHUNK_SIZE + 5;
+        lines.set(invalidLineNumber - 1, "Invalid @ topic,1,Content,math");
+        Path filePath = writeTempFile("deck.csv", lines);
+
+        List<Integer> progress = new ArrayList<>();
+        List<Flashcard> flashcards = new ArrayList<>();
+        DelimitedFlashcardReader.Result result =
+                new DelimitedFlashcardReader(filePath).read(flashcards::add, progress::add);
+
+        assertEquals(Arrays.asList(DelimitedFlashcardReader.CHUNK_SIZE, rowCount), progress);
+        assertEquals(rowCount - 1, flashcards.size());
+        assertEquals(rowCount - 1, result.getFlashcardCount());
+        for (int i = 0; i < invalidLineNumber - 1; i++) {
+            assertEquals("Topic " + i, flashcards.get(i).getTopic().fullTopic);
+        }
+        assertEquals(Collections.singletonList(String.format(DelimitedFlashcardReader.MESSAGE_INVALID_ROW,
+                invalidLineNumber, Topic.MESSAGE_CONSTRAINTS)), result.getInvalidRows());
+    }
+
+    @Test
+    public void read_missingFile_throwsNoSuchFileException() throws Exception {
+        thrown.expect(NoSuchFileException.class);
+        new DelimitedFlashcardReader(testFolder.getRoot().toPath().resolve("missing.csv"))
+                .read(flashcard -> { }, linesRead -> { });
+    }
+
+}
@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import seedu.address.model.FlashBook;
+import seedu.address.model.ReadOnlyFlashBook;
+import seedu.address.model.flashcard.Content;
+import seedu.address.model.flashcard.Deadline;
+import seedu.address.model.flashcard.Difficulty;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.Topic;
+import seedu.address.model.tag.SubjectTag;
+
+/**
+ * Compares the time taken to save and load flash books of increasing sizes with a {@link JsonFlashBookStorage}
+ * and a {@link BinaryFlashBookStorage}. This is not a test; run its {@code main} method by hand, with a heap large
+ * enough for the largest flash book, e.g. {@code -Xmx4g}.
+ */
+public class FlashBookStorageBenchmark {
+
+    private static final int[] FLASHBOOK_SIZES = {10_000, 100_000, 1_000_000};
+    private static final int WARM_UP_RUNS = 2;
+    private static final int MEASURED_RUNS = 3;
+    private static final int SUBJECT_COUNT = 20;
+
+    /**
+     * Runs the benchmark in a temporary directory.
+     */
+    public static void main(String[] args) throws Exception {
+        Path directory = Files.createTempDirectory("flashbook-benchmark");
+        for (int size : FLASHBOOK_SIZES) {
+            FlashBook flashBook = createFlashBook(size);
+            run(new JsonFlashBookStorage(directory.resolve("flashbook.json")), flashBook);
+            run(new BinaryFlashBookStorage(directory.resolve("flashbook" + BinaryFlashBookStorage.FILE_EXTENSION)),
+                    flashBook);
+        }
+    }
+
+    /**
+     * Prints the best time to save and to load {@code flashBook} with {@code storage}, and the size of the file.
+     */
+    private static void run(FlashBookStorage storage, ReadOnlyFlashBook flashBook) throws Exception {
+        long bestSaveNanos = Long.MAX_VALUE;
+        long bestLoadNanos = Long.MAX_VALUE;
+        for (int i = 0; i < WARM_UP_RUNS + MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            storage.saveFlashBook(flashBook);
+            long saved = System.nanoTime();
+            storage.readFlashBook();
+            long loaded = System.nanoTime();
+            if (i >= WARM_UP_RUNS) {
+                bestSaveNanos = Math.min(bestSaveNanos, saved - start);
+                bestLoadNanos = Math.min(bestLoadNanos, loaded - saved);
+            }
+        }
+        System.out.printf("%-24s %,10d cards: save %,8.1f ms, load %,8.1f ms, %,12d bytes%n",
+                storage.getClass().getSimpleName(), flashBook.getFlashcardList().size(),
+                bestSaveNanos / 1e6, bestLoadNanos / 1e6, Files.size(storage.getFlashBookFilePath()));
+    }
+
+    /**
+     * Returns a flash book of {@code size} distinct flashcards, spread over a few subjects.
+     */
+    private static FlashBook createFlashBook(int size) {
+        FlashBook flashBook = new FlashBook();
+        for (int i = 0; i < size; i++) {
+            flashBook.addFlashcard(new Flashcard(new Topic("Topic " + i), Difficulty.of(Integer.toString(i % 3 + 1)),
+                    new Content("Content of flashcard " + i + ", which is a little longer than its topic"),
+                    new Deadline(i % 2 == 0 ? "" : "Week " + i % 13),
+                    Collections.singleton(SubjectTag.of("Subject" + i % SUBJECT_COUNT))));
+        }
+        return flashBook;
+    }
+
+}
@@ -0,0 +1,197 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalFlashcards.CS2101;
+import static seedu.address.testutil.TypicalFlashcards.CS2113T;
+import static seedu.address.testutil.TypicalFlashcards.ENGLISH;
+import static seedu.address.testutil.TypicalFlashcards.getTypicalFlashBook;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.FlashBook;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.testutil.FlashcardBuilder;
+
+public class JournaledFlashBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempFlashBook.json");
+        journalFilePath = JournaledFlashBookStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void readFlashBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledFlashBookStorage(filePath).readFlashBook().isPresent());
+    }
+
+    @Test
+    public void saveFlashBook_smallChanges_onlyJournalWritten() throws Exception {
+        JournaledFlashBookStorage storage = new JournaledFlashBookStorage(filePath);
+        FlashBook flashBook = getTypicalFlashBook();
+        storage.saveFlashBook(flashBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        // add, edit and delete
+        flashBook.addFlashcard(CS2101);
+        storage.saveFlashBook(flashBook);
+        Flashcard editedEnglish = new FlashcardBuilder(ENGLISH).withDeadline("Tomorrow").build();
+        flashBook.setFlashcard(ENGLISH, editedEnglish);
+        storage.saveFlashBook(flashBook);
+        flashBook.removeFlashcard(flashBook.getFlashcardList().get(1));
+        storage.saveFlashBook(flashBook);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        FlashBook readBack = new FlashBook(new JournaledFlashBookStorage(filePath).readFlashBook().get());
+        assertEquals(flashBook, readBack);
+        assertEquals(editedEnglish.getDeadline(), readBack.getFlashcardList().get(0).getDeadline());
+    }
+
+    @Test
+    public void saveFlashBook_afterRead_journalAppended() throws Exception {
+        FlashBook flashBook = getTypicalFlashBook();
+        new JournaledFlashBookStorage(filePath).saveFlashBook(flashBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        JournaledFlashBookStorage storage = new JournaledFlashBookStorage(filePath);
+        FlashBook readBack = new FlashBook(storage.readFlashBook().get());
+        readBack.addFlashcard(CS2101);
+        storage.saveFlashBook(readBack);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(readBack, new FlashBook(new JournaledFlashBookStorage(filePath).readFlashBook().get()));
+    }
+
+    @Test
+    public void saveFlashBook_journalBeyondThreshold_compacted() throws Exception {
+        JournaledFlashBookStorage storage = new JournaledFlashBookStorage(filePath, 0);
+        FlashBook flashBook = getTypicalFlashBook();
+        storage.saveFlashBook(flashBook);
+        long emptyJournalSize = Files.size(journalFilePath);
+
+        flashBook.addFlashcard(CS2101);
+        storage.saveFlashBook(flashBook);
+
+        assertEquals(emptyJournalSize, Files.size(journalFilePath));
+        assertEquals(flashBook, new FlashBook(new JsonFlashBookStorage(filePath).readFlashBook().get()));
+        assertEquals(flashBook, new FlashBook(new JournaledFlashBookStorage(filePath).readFlashBook().get()));
+    }
+
+    @Test
+    public void readFlashBook_journalOfOlderSnapshot_journalIgnored() throws Exception {
+        JournaledFlashBookStorage storage = new JournaledFlashBookStorage(filePath);
+        FlashBook flashBook = getTypicalFlashBook();
+        storage.saveFlashBook(flashBook);
+        flashBook.addFlashcard(CS2101);
+        storage.saveFlashBook(flashBook);
+        byte[] journal = Files.readAllBytes(journalFilePath);
+
+        // compaction interrupted before the new journal was written
+        new JournaledFlashBookStorage(filePath, 0).saveFlashBook(flashBook);
+        Files.write(journalFilePath, journal);
+
+        assertEquals(flashBook, new FlashBook(new JournaledFlashBookStorage(filePath).readFlashBook().get()));
+    }
+
+    @Test
+    public void readFlashBook_partlyWrittenLastRecord_recordIgnoredAndCompactedOnSave() throws Exception {
+        JournaledFlashBookStorage storage = new JournaledFlashBookStorage(filePath);
+        FlashBook flashBook = getTypicalFlashBook();
+        storage.saveFlashBook(flashBook);
+        Files.write(journalFilePath, "{\"operation\":\"add\",\"ind".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        storage = new JournaledFlashBookStorage(filePath);
+        FlashBook readBack = new FlashBook(storage.readFlashBook().get());
+        assertEquals(flashBook, readBack);
+
+        readBack.addFlashcard(CS2113T);
+        storage.saveFlashBook(readBack);
+        assertEquals(readBack, new FlashBook(new JournaledFlashBookStorage(filePath).readFlashBook().get()));
+    }
+
+    @Test
+    public void readFlashBook_invalidRecord_throwsDataConversionException() throws Exception {
+        new JournaledFlashBookStorage(filePath).saveFlashBook(getTypicalFlashBook());
+        Files.write(journalFilePath, "{\"operation\":\"delete\",\"index\":100}\n{}\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        thrown.expect(DataConversionException.class);
+        new JournaledFlashBookStorage(filePath).readFlashBook();
+    }
+
+    @Test
+    public void saveFlashBook_failedAppend_journalTruncatedAndCompactedOnNextSave() throws Exception {
+        FailingJournaledFlashBookStorage storage = new FailingJournaledFlashBookStorage(filePath);
+        FlashBook flashBook = getTypicalFlashBook();
+        storage.saveFlashBook(flashBook);
+        FlashBook savedFlashBook = new FlashBook(flashBook);
+        long journalSize = Files.size(journalFilePath);
+
+        flashBook.addFlashcard(CS2101);
+        storage.isFailingNextWrite = true;
+        try {
+            storage.saveFlashBook(flashBook);
+            fail("The failed append should have been reported.");
+        } catch (IOException e) {
+            // expected
+        }
+        assertEquals(journalSize, Files.size(journalFilePath));
+        assertEquals(savedFlashBook, new FlashBook(new JournaledFlashBookStorage(filePath).readFlashBook().get()));
+
+        flashBook.addFlashcard(CS2113T);
+        storage.saveFlashBook(flashBook);
+        assertEquals(flashBook, new FlashBook(new JsonFlashBookStorage(filePath).readFlashBook().get()));
+        assertEquals(flashBook, new FlashBook(new JournaledFlashBookStorage(filePath).readFlashBook().get()));
+    }
+
+    /**
+     * A {@code JournaledFlashBookStorage} which can be made to write only part of the next records to the journal
+     * and then fail.
+     */
+    private static class FailingJournaledFlashBookStorage extends JournaledFlashBookStorage {
+        private boolean isFailingNextWrite;
+
+        FailingJournaledFlashBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        void writeRecords(FileChannel channel, ByteBuffer records) throws IOException {
+            if (!isFailingNextWrite) {
+                super.writeRecords(channel, records);
+                return;
+            }
+            isFailingNextWrite = false;
+            records.limit(records.limit() / 2);
+            super.writeRecords(channel, records);
+            throw new IOException("Disk full");
+        }
+    }
+
+}
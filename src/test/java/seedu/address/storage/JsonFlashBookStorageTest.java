@@ -2,12 +2,14 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalFlashcards.CS2101;
 import static seedu.address.testutil.TypicalFlashcards.CS2113T;
 import static seedu.address.testutil.TypicalFlashcards.ENGLISH;
 import static seedu.address.testutil.TypicalFlashcards.getTypicalFlashBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -72,6 +74,18 @@ public class JsonFlashBookStorageTest {
         readFlashBook("invalidAndValidFlashcardFlashBook.json");
     }
 
+    @Test
+    public void readFlashBook_duplicateFlashcardFlashBook_throwDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readFlashBook("duplicateFlashcardFlashBook.json");
+    }
+
+    @Test
+    public void readFlashBook_truncatedFlashBook_throwDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readFlashBook("truncatedFlashBook.json");
+    }
+
     @Test
     public void readAndSaveFlashBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
@@ -98,6 +112,53 @@ public class JsonFlashBookStorageTest {
 
     }
 
+    @Test
+    public void saveFlashBook_prettyPrinting_onlyPrettyPrintedWhenRequested() throws Exception {
+        Path compactFilePath = testFolder.getRoot().toPath().resolve("Compact.json");
+        Path prettyFilePath = testFolder.getRoot().toPath().resolve("Pretty.json");
+        FlashBook original = getTypicalFlashBook();
+
+        new JsonFlashBookStorage(compactFilePath).saveFlashBook(original);
+        JsonFlashBookStorage prettyStorage = new JsonFlashBookStorage(prettyFilePath, true);
+        prettyStorage.saveFlashBook(original);
+
+        assertFalse(new String(Files.readAllBytes(compactFilePath), "UTF-8").contains("\n"));
+        assertTrue(new String(Files.readAllBytes(prettyFilePath), "UTF-8").contains("\n"));
+        assertEquals(original, new FlashBook(prettyStorage.readFlashBook().get()));
+    }
+
+    @Test
+    public void saveFlashBook_existingFile_previousGenerationBackedUp() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempFlashBook.json");
+        Path backupFilePath = JsonFlashBookStorage.getBackupFilePath(filePath);
+        JsonFlashBookStorage jsonFlashBookStorage = new JsonFlashBookStorage(filePath);
+        FlashBook original = getTypicalFlashBook();
+
+        // first save -> nothing to back up
+        jsonFlashBookStorage.saveFlashBook(original);
+        assertFalse(Files.exists(backupFilePath));
+
+        // later saves -> backup holds the previous generation
+        FlashBook modified = new FlashBook(original);
+        modified.addFlashcard(CS2101);
+        jsonFlashBookStorage.saveFlashBook(modified);
+        assertEquals(original, new FlashBook(jsonFlashBookStorage.readFlashBook(backupFilePath).get()));
+        assertEquals(modified, new FlashBook(jsonFlashBookStorage.readFlashBook().get()));
+    }
+
+    @Test
+    public void saveFlashBook_backupDisabled_noBackup() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempFlashBook.json");
+        JsonFlashBookStorage jsonFlashBookStorage = new JsonFlashBookStorage(filePath, false, false);
+        FlashBook modified = getTypicalFlashBook();
+        jsonFlashBookStorage.saveFlashBook(modified);
+        modified.addFlashcard(CS2101);
+        jsonFlashBookStorage.saveFlashBook(modified);
+
+        assertFalse(Files.exists(JsonFlashBookStorage.getBackupFilePath(filePath)));
+        assertEquals(modified, new FlashBook(jsonFlashBookStorage.readFlashBook().get()));
+    }
+
     @Test
     public void saveFlashBook_nullFlashBook_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -1,10 +1,12 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static seedu.address.testutil.TypicalFlashcards.getTypicalFlashBook;
 
 import java.nio.file.Path;
+import java.util.Arrays;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -12,6 +14,8 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.events.logic.CommandHistoryChangedEvent;
+import seedu.address.commons.events.model.FlashBookChangedEvent;
 import seedu.address.model.FlashBook;
 import seedu.address.model.ReadOnlyFlashBook;
 import seedu.address.model.UserPrefs;
@@ -27,7 +31,8 @@ public class StorageManagerTest {
     public void setUp() {
         JsonFlashBookStorage flashBookStorage = new JsonFlashBookStorage(getTempFilePath("ab"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
-        storageManager = new StorageManager(flashBookStorage, userPrefsStorage);
+        TextCommandHistoryStorage commandHistoryStorage = new TextCommandHistoryStorage(getTempFilePath("history"));
+        storageManager = new StorageManager(flashBookStorage, userPrefsStorage, commandHistoryStorage);
     }
 
     private Path getTempFilePath(String fileName) {
@@ -64,9 +69,38 @@ public class StorageManagerTest {
         assertEquals(original, new FlashBook(retrieved));
     }
 
+    @Test
+    public void handleFlashBookChangedEvent_flushed_flashBookSaved() throws Exception {
+        FlashBook original = getTypicalFlashBook();
+        storageManager.handleFlashBookChangedEvent(new FlashBookChangedEvent(original));
+        storageManager.flushFlashBook();
+        ReadOnlyFlashBook retrieved = storageManager.readFlashBook().get();
+        assertEquals(original, new FlashBook(retrieved));
+    }
+
+    @Test
+    public void handleFlashBookChangedEvent_savesDeferred_savedAtCheckpoint() throws Exception {
+        storageManager.deferFlashBookSaves();
+        FlashBook original = getTypicalFlashBook();
+        storageManager.handleFlashBookChangedEvent(new FlashBookChangedEvent(original));
+        storageManager.flushFlashBook();
+        assertFalse(storageManager.readFlashBook().isPresent());
+
+        storageManager.checkpointFlashBook();
+        assertEquals(original, new FlashBook(storageManager.readFlashBook().get()));
+    }
+
     @Test
     public void getFlashBookFilePath() {
         assertNotNull(storageManager.getFlashBookFilePath());
     }
 
+    @Test
+    public void handleCommandHistoryChangedEvent_commandsAppended() throws Exception {
+        storageManager.handleCommandHistoryChangedEvent(new CommandHistoryChangedEvent("list"));
+        storageManager.handleCommandHistoryChangedEvent(new CommandHistoryChangedEvent("clear"));
+        storageManager.flushCommandHistory();
+        assertEquals(Arrays.asList("list", "clear"), storageManager.readCommandHistory(10));
+    }
+
 }
@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TextCommandHistoryStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private TextCommandHistoryStorage getStorage(String fileName) {
+        return new TextCommandHistoryStorage(testFolder.getRoot().toPath().resolve("data").resolve(fileName));
+    }
+
+    @Test
+    public void readCommandHistory_missingFile_emptyResult() throws Exception {
+        assertEquals(Collections.emptyList(), getStorage("missing.txt").readCommandHistory(10));
+    }
+
+    @Test
+    public void appendAndReadCommandHistory_allInOrder_success() throws Exception {
+        TextCommandHistoryStorage storage = getStorage("history.txt");
+        storage.appendCommandHistory(Arrays.asList("list", "find c/back\\slash"));
+        storage.appendCommandHistory(Collections.singletonList("multi\nline\r\ncommand"));
+
+        assertEquals(Arrays.asList("list", "find c/back\\slash", "multi\nline\r\ncommand"),
+                storage.readCommandHistory(10));
+        assertEquals(3, Files.readAllLines(storage.getCommandHistoryFilePath()).size());
+
+        // only the latest commands are read
+        assertEquals(Collections.singletonList("multi\nline\r\ncommand"), storage.readCommandHistory(1));
+    }
+
+    @Test
+    public void readCommandHistory_manyMoreCommandsThanCapacity_fileCompacted() throws Exception {
+        TextCommandHistoryStorage storage = getStorage("history.txt");
+        Path filePath = storage.getCommandHistoryFilePath();
+        List<String> userInputs = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            userInputs.add("select " + i);
+        }
+        storage.appendCommandHistory(userInputs);
+
+        // not many more -> file left as it is
+        assertEquals(userInputs.subList(5, 10), storage.readCommandHistory(5));
+        assertEquals(10, Files.readAllLines(filePath).size());
+
+        // many more -> file holds only the commands read
+        assertEquals(userInputs.subList(7, 10), storage.readCommandHistory(3));
+        assertEquals(userInputs.subList(7, 10), Files.readAllLines(filePath));
+
+        storage.appendCommandHistory(Collections.singletonList("list"));
+        assertTrue(Files.readAllLines(filePath).contains("list"));
+    }
+
+}
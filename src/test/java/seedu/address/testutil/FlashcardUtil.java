@@ -31,7 +31,7 @@ public class FlashcardUtil {
         StringBuilder sb = new StringBuilder();
         sb.append(PREFIX_TOPIC + flashcard.getTopic().fullTopic + " ");
         sb.append(PREFIX_DIFFICULTY + flashcard.getDifficulty().value + " ");
-        sb.append(PREFIX_CONTENT + flashcard.getContent().value + " ");
+        sb.append(PREFIX_CONTENT + flashcard.getContent().getValue() + " ");
         flashcard.getTags().stream().forEach(
             s -> sb.append(PREFIX_SUBJECT + s.subjectName + " ")
         );
@@ -46,7 +46,7 @@ public class FlashcardUtil {
         descriptor.getTopic().ifPresent(topic -> sb.append(PREFIX_TOPIC).append(topic.fullTopic).append(" "));
         descriptor.getDifficulty().ifPresent(difficulty ->
                 sb.append(PREFIX_DIFFICULTY).append(difficulty.value).append(" "));
-        descriptor.getContent().ifPresent(content -> sb.append(PREFIX_CONTENT).append(content.value).append(" "));
+        descriptor.getContent().ifPresent(content -> sb.append(PREFIX_CONTENT).append(content.getValue()).append(" "));
         if (descriptor.getTags().isPresent()) {
             Set<SubjectTag> tags = descriptor.getTags().get();
             if (tags.isEmpty()) {
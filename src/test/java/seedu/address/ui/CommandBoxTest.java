@@ -3,11 +3,14 @@ package seedu.address.ui;
 import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import guitests.guihandles.CommandBoxHandle;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.scene.input.KeyCode;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
@@ -17,10 +20,12 @@ public class CommandBoxTest extends GuiUnitTest {
 
     private static final String COMMAND_THAT_SUCCEEDS = ListCommand.COMMAND_WORD;
     private static final String COMMAND_THAT_FAILS = "invalid command";
+    private static final String COMMAND_THAT_FAILS_UNEXPECTEDLY = "unexpected failure";
 
     private ArrayList<String> defaultStyleOfCommandBox;
     private ArrayList<String> errorStyleOfCommandBox;
     private final ArrayList<String> history = new ArrayList<>();
+    private final ReadOnlyObjectWrapper<List<String>> historySnapshot = new ReadOnlyObjectWrapper<>(new ArrayList<>());
 
     private CommandBoxHandle commandBoxHandle;
 
@@ -28,11 +33,17 @@ public class CommandBoxTest extends GuiUnitTest {
     public void setUp() {
         CommandBox commandBox = new CommandBox(commandText -> {
             history.add(commandText);
+            historySnapshot.set(new ArrayList<>(history));
+            CompletableFuture<CommandResult> result = new CompletableFuture<>();
             if (commandText.equals(COMMAND_THAT_SUCCEEDS)) {
-                return new CommandResult("Command successful");
+                result.complete(new CommandResult("Command successful"));
+            } else if (commandText.equals(COMMAND_THAT_FAILS_UNEXPECTEDLY)) {
+                result.completeExceptionally(new IllegalStateException("Command failed unexpectedly"));
+            } else {
+                result.completeExceptionally(new CommandException("Command failed"));
             }
-            throw new CommandException("Command failed");
-        }, history);
+            return result;
+        }, () -> {}, historySnapshot);
         commandBoxHandle = new CommandBoxHandle(getChildNode(commandBox.getRoot(),
                 CommandBoxHandle.COMMAND_INPUT_FIELD_ID));
         uiPartRule.setUiPart(commandBox);
@@ -60,6 +71,13 @@ public class CommandBoxTest extends GuiUnitTest {
         assertBehaviorForFailedCommand();
     }
 
+    @Test
+    public void commandBox_unexpectedFailure_textRestoredWithErrorStyle() {
+        commandBoxHandle.run(COMMAND_THAT_FAILS_UNEXPECTEDLY);
+        assertEquals(COMMAND_THAT_FAILS_UNEXPECTEDLY, commandBoxHandle.getInput());
+        assertEquals(errorStyleOfCommandBox, commandBoxHandle.getStyleClass());
+    }
+
     @Test
     public void commandBox_handleKeyPress() {
         commandBoxHandle.run(COMMAND_THAT_FAILS);
@@ -22,7 +22,6 @@ import seedu.address.model.flashcard.Deadline;
 import seedu.address.model.flashcard.Difficulty;
 import seedu.address.model.flashcard.Flashcard;
 import seedu.address.model.flashcard.Topic;
-import seedu.address.model.tag.SubjectTag;
 
 public class FlashcardListPanelTest extends GuiUnitTest {
     private static final ObservableList<Flashcard> TYPICAL_FLASHCARDS =
@@ -31,7 +30,6 @@ public class FlashcardListPanelTest extends GuiUnitTest {
     private static final long CARD_CREATION_AND_DELETION_TIMEOUT = 2500;
 
     private final SimpleObjectProperty<Flashcard> selectedFlashcard = new SimpleObjectProperty<>();
-    private final SimpleObjectProperty<SubjectTag> selectedSubject = new SimpleObjectProperty<>();
     private FlashcardListPanelHandle flashcardListPanelHandle;
 
     /**
@@ -106,7 +104,7 @@ public class FlashcardListPanelTest extends GuiUnitTest {
      */
     private void initUi(ObservableList<Flashcard> backingList) {
         FlashcardListPanel flashcardListPanel =
-                new FlashcardListPanel(backingList, selectedSubject, selectedFlashcard, selectedFlashcard::set);
+                new FlashcardListPanel(backingList, selectedFlashcard, selectedFlashcard::set);
         uiPartRule.setUiPart(flashcardListPanel);
 
         flashcardListPanelHandle = new FlashcardListPanelHandle(getChildNode(flashcardListPanel.getRoot(),
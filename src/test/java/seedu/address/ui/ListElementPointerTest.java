@@ -78,6 +78,39 @@ public class ListElementPointerTest {
         assertPreviousFailure();
     }
 
+    @Test
+    public void add_backingListUnmodified() {
+        pointer = new ListElementPointer(pointerElements);
+        pointer.add("third");
+        assertEquals(2, pointerElements.size());
+        assertNextSuccess("third");
+    }
+
+    @Test
+    public void prefix_onlyMatchingElementsPointedTo() {
+        pointerElements.add("fourth");
+        pointerElements.add("fifth");
+        pointer = new ListElementPointer(pointerElements, "f");
+        pointer.add("f");
+
+        assertCurrentSuccess("fifth");
+        assertPreviousSuccess("fourth");
+        assertPreviousSuccess(FIRST_ELEMENT);
+        assertPreviousFailure();
+        assertNextSuccess("fourth");
+        assertNextSuccess("fifth");
+
+        // added elements are pointed to whatever their prefix
+        assertNextSuccess("f");
+        assertNextFailure();
+
+        // no matching elements
+        pointer = new ListElementPointer(pointerElements, "x");
+        assertCurrentFailure();
+        assertPreviousFailure();
+        assertNextFailure();
+    }
+
     @Test
     public void equals() {
         ListElementPointer firstPointer = new ListElementPointer(pointerElements);
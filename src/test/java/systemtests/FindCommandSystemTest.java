@@ -117,7 +117,7 @@ public class FindCommandSystemTest extends FlashBookSystemTest {
         assertSelectedCardUnchanged();
 
         *//* Case: find content of flashcard in flash book -> 0 subjects found *//*
-        command = FindCommand.COMMAND_WORD + " " + DANIEL.getContent().value;
+        command = FindCommand.COMMAND_WORD + " " + DANIEL.getContent().getValue();
         assertCommandSuccess(command, expectedModel);
         assertSelectedCardUnchanged();
 
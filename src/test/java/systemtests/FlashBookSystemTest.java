@@ -22,6 +22,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.ClassRule;
 
+import guitests.GuiRobot;
 import guitests.guihandles.BrowserPanelHandle;
 import guitests.guihandles.CommandBoxHandle;
 import guitests.guihandles.FlashcardListPanelHandle;
@@ -54,6 +55,7 @@ public abstract class FlashBookSystemTest {
     private static final List<String> COMMAND_BOX_ERROR_STYLE =
             Arrays.asList("text-input", "text-field", CommandBox.ERROR_STYLE_CLASS);
 
+    private final GuiRobot guiRobot = new GuiRobot();
     private MainWindowHandle mainWindowHandle;
     private TestApp testApp;
     private SystemTestSetupHelper setupHelper;
@@ -131,6 +133,8 @@ public abstract class FlashBookSystemTest {
         clockRule.setInjectedClockToCurrentTime();
 
         mainWindowHandle.getCommandBox().run(command);
+        // commands are executed in the background
+        guiRobot.waitForEvent(() -> !getStatusBarFooter().isBusy());
 
         waitUntilBrowserLoaded(getBrowserPanel());
     }